@@ -0,0 +1,72 @@
+package converter.benchmarks;
+
+import converter.BatchConverter;
+import converter.ParallelConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the array conversions, sequentially and on the common fork/join pool. The string inputs
+ * are one tenth malformed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private CharSequence[] strings;
+    private int[] values;
+    private int[] outValues;
+    private String[] outNumerals;
+    private byte[] outStatus;
+
+    @Setup
+    public void setUp() {
+        String[] mix = Inputs.strings("ELBONIAN", "LONG", 10);
+        strings = new CharSequence[size];
+        for (int i = 0; i < size; i++) {
+            strings[i] = mix[i & (Inputs.SIZE - 1)];
+        }
+        values = Inputs.values(size);
+        outValues = new int[size];
+        outNumerals = new String[size];
+        outStatus = new byte[size];
+    }
+
+    @Benchmark
+    public int batchRead() {
+        return BatchConverter.convertAll(strings, outValues, outStatus);
+    }
+
+    @Benchmark
+    public int parallelRead() {
+        return ParallelConverter.convertAll(strings, outValues, outStatus);
+    }
+
+    @Benchmark
+    public int batchWrite() {
+        return BatchConverter.convertAll(values, outNumerals, outStatus);
+    }
+
+    @Benchmark
+    public int parallelWrite() {
+        return ParallelConverter.convertAll(values, outNumerals, outStatus);
+    }
+}
@@ -0,0 +1,58 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the ElbonianArabicConverter constructor, which validates its input, over mixes of valid
+ * and malformed numbers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructionBenchmark {
+
+    @Param({"ARABIC", "ELBONIAN"})
+    public String form;
+
+    @Param({"SHORT", "LONG"})
+    public String length;
+
+    @Param({"0", "10", "50"})
+    public int malformedPercent;
+
+    private String[] inputs;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        inputs = Inputs.strings(form, length, malformedPercent);
+    }
+
+    @Benchmark
+    public Object construct() {
+        String input = inputs[index++ & (Inputs.SIZE - 1)];
+        try {
+            return new ElbonianArabicConverter(input);
+        } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+            return e;
+        }
+    }
+}
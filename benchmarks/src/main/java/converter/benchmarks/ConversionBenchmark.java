@@ -0,0 +1,88 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures toArabic() and toElbonian() on converters that already exist, and the static conversions
+ * that need no converter at all, including writing numerals into caller-owned storage.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionBenchmark {
+
+    @Param({"SHORT", "LONG"})
+    public String length;
+
+    private ElbonianArabicConverter[] elbonian;
+    private ElbonianArabicConverter[] arabic;
+    private String[] numerals;
+    private int[] values;
+    private int index;
+    private final char[] chars = new char[32];
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(32);
+
+    @Setup
+    public void setUp() throws MalformedNumberException, ValueOutOfBoundsException {
+        numerals = Inputs.strings("ELBONIAN", length, 0);
+        String[] digits = Inputs.strings("ARABIC", length, 0);
+        elbonian = new ElbonianArabicConverter[Inputs.SIZE];
+        arabic = new ElbonianArabicConverter[Inputs.SIZE];
+        values = new int[Inputs.SIZE];
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            elbonian[i] = new ElbonianArabicConverter(numerals[i]);
+            arabic[i] = new ElbonianArabicConverter(digits[i]);
+            values[i] = Integer.parseInt(digits[i].trim());
+        }
+    }
+
+    @Benchmark
+    public int toArabic() {
+        return elbonian[index++ & (Inputs.SIZE - 1)].toArabic();
+    }
+
+    @Benchmark
+    public String toElbonian() {
+        return arabic[index++ & (Inputs.SIZE - 1)].toElbonian();
+    }
+
+    @Benchmark
+    public int staticToArabic() throws MalformedNumberException {
+        return ElbonianArabicConverter.toArabic(numerals[index++ & (Inputs.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public String staticToElbonian() throws ValueOutOfBoundsException {
+        return ElbonianArabicConverter.toElbonian(values[index++ & (Inputs.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public int writeElbonianChars() throws ValueOutOfBoundsException {
+        return ElbonianArabicConverter.writeElbonian(values[index++ & (Inputs.SIZE - 1)], chars, 0);
+    }
+
+    @Benchmark
+    public int writeElbonianBytes() throws ValueOutOfBoundsException {
+        bytes.clear();
+        return ElbonianArabicConverter.writeElbonian(values[index++ & (Inputs.SIZE - 1)], bytes);
+    }
+}
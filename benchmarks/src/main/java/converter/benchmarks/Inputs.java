@@ -0,0 +1,61 @@
+package converter.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Builds the input mixes shared by the benchmarks. All inputs come from a fixed seed so that every run
+ * measures the same data.
+ */
+final class Inputs {
+    static final int SIZE = 4096;
+
+    // Short numerals, long numerals and strings that break a rule late or early
+    private static final String[] SHORT_ELBONIAN = {"I", "II", "V", "X", "L", "C", "M", "Z"};
+    private static final String[] LONG_ELBONIAN = {"NNNDDDLLLVVV", "NNMMDDCCLLXXVVII", "-NNMMDDCCLLXXVVII"};
+    private static final String[] SHORT_ARABIC = {"1", "2", "3", "10", "30", "100", "0", "-5"};
+    private static final String[] LONG_ARABIC = {"9999", "8888", "-8888", " 2202 "};
+    private static final String[] MALFORMED = {"NNNM", "MMM", "LLLI", "9 9", "", "-", "ABC", "10000",
+            "NNMMDDCCLLXXVVIII"};
+
+    private Inputs() {
+    }
+
+    /**
+     * Builds a mix of numbers to read.
+     *
+     * @param form "ARABIC" or "ELBONIAN"
+     * @param length "SHORT" or "LONG"
+     * @param malformedPercent How many of the inputs, out of 100, are malformed
+     * @return The inputs
+     */
+    static String[] strings(String form, String length, int malformedPercent) {
+        String[] valid;
+        if ("ARABIC".equals(form)) {
+            valid = "LONG".equals(length) ? LONG_ARABIC : SHORT_ARABIC;
+        } else {
+            valid = "LONG".equals(length) ? LONG_ELBONIAN : SHORT_ELBONIAN;
+        }
+        Random random = new Random(3733);
+        String[] inputs = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            inputs[i] = random.nextInt(100) < malformedPercent ? MALFORMED[random.nextInt(MALFORMED.length)]
+                    : valid[random.nextInt(valid.length)];
+        }
+        return inputs;
+    }
+
+    /**
+     * Builds values spread over the whole Elbonian range.
+     *
+     * @param size The number of values
+     * @return The values
+     */
+    static int[] values(int size) {
+        Random random = new Random(3733);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(19999) - 9999;
+        }
+        return values;
+    }
+}
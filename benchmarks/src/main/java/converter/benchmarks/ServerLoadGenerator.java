@@ -0,0 +1,222 @@
+package converter.benchmarks;
+
+import converter.ConversionServer;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Drives a {@link ConversionServer} from several connections and reports throughput and latency
+ * percentiles. Each connection sends a window of pipelined requests in one write, reads all the
+ * responses, checks them against the converter run in this process, and repeats. The latency of a
+ * request runs from the write of its window to the arrival of its response line.
+ *
+ * Arguments, all optional: connections (4), requests per connection (200000), pipeline depth (64), and
+ * the port of a running server. Without a port a server is started in this process on a free port.
+ */
+public final class ServerLoadGenerator {
+    private static final String[] MALFORMED = {"NNNM", "LLLI", "9 9", "", "-", "ABC", "10000"};
+
+    private ServerLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 200000;
+        int depth = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        ConversionServer server = args.length > 3 ? null : new ConversionServer(0);
+        int port = server == null ? Integer.parseInt(args[3]) : server.getPort();
+
+        String[] lines = lines(Inputs.SIZE);
+        byte[][] expected = new byte[lines.length][];
+        for (int i = 0; i < lines.length; i++) {
+            expected[i] = expected(lines[i]).getBytes(StandardCharsets.US_ASCII);
+        }
+
+        Client[] clients = new Client[connections];
+        for (int c = 0; c < connections; c++) {
+            clients[c] = new Client(port, lines, expected, requests, depth, c);
+        }
+        // One short warm up pass so the first windows do not set the tail latency
+        Client warmup = new Client(port, lines, expected, Math.min(requests, 20000), depth, 0);
+        warmup.run();
+        if (warmup.failure != null) {
+            throw warmup.failure;
+        }
+
+        long started = System.nanoTime();
+        for (Client client : clients) {
+            client.start();
+        }
+        for (Client client : clients) {
+            client.join();
+        }
+        long elapsed = System.nanoTime() - started;
+        if (server != null) {
+            server.close();
+        }
+
+        long[] latencies = new long[connections * requests];
+        long mismatches = 0;
+        for (int c = 0; c < connections; c++) {
+            if (clients[c].failure != null) {
+                throw clients[c].failure;
+            }
+            System.arraycopy(clients[c].latencies, 0, latencies, c * requests, requests);
+            mismatches += clients[c].mismatches;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("connections %d, depth %d, requests %d%n", connections, depth, latencies.length);
+        System.out.printf("throughput  %.0f requests/s%n", latencies.length * 1e9 / elapsed);
+        System.out.printf("latency     p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999),
+                latencies[latencies.length - 1] / 1e3);
+        System.out.printf("mismatches  %d%n", mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * One connection, run on its own thread.
+     */
+    private static final class Client extends Thread {
+        private final int port;
+        private final String[] lines;
+        private final byte[][] expected;
+        private final int depth;
+        private final int offset;
+        final long[] latencies;
+        // Read by the main thread after join()
+        long mismatches;
+        IOException failure;
+
+        Client(int port, String[] lines, byte[][] expected, int requests, int depth, int offset) {
+            super("load-" + offset);
+            this.port = port;
+            this.lines = lines;
+            this.expected = expected;
+            this.depth = depth;
+            this.offset = offset * 7919;
+            this.latencies = new long[requests];
+        }
+
+        @Override
+        public void run() {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                socket.setTcpNoDelay(true);
+                OutputStream out = socket.getOutputStream();
+                InputStream in = socket.getInputStream();
+                byte[] response = new byte[64 << 10];
+                int responseLength = 0;
+                int responseStart = 0;
+                for (int sent = 0; sent < latencies.length; sent += depth) {
+                    int window = Math.min(depth, latencies.length - sent);
+                    StringBuilder batch = new StringBuilder();
+                    for (int i = 0; i < window; i++) {
+                        batch.append(lines[(offset + sent + i) % lines.length]).append('\n');
+                    }
+                    long written = System.nanoTime();
+                    out.write(batch.toString().getBytes(StandardCharsets.US_ASCII));
+                    out.flush();
+                    int answered = 0;
+                    int scan = responseStart;
+                    while (answered < window) {
+                        int newline = -1;
+                        for (; scan < responseLength; scan++) {
+                            if (response[scan] == '\n') {
+                                newline = scan;
+                                break;
+                            }
+                        }
+                        if (newline < 0) {
+                            if (responseStart > 0) {
+                                System.arraycopy(response, responseStart, response, 0, responseLength - responseStart);
+                                responseLength -= responseStart;
+                                scan -= responseStart;
+                                responseStart = 0;
+                            }
+                            int read = in.read(response, responseLength, response.length - responseLength);
+                            if (read < 0) {
+                                throw new IOException("Server closed the connection");
+                            }
+                            responseLength += read;
+                            continue;
+                        }
+                        int request = sent + answered;
+                        latencies[request] = System.nanoTime() - written;
+                        byte[] want = expected[(offset + request) % lines.length];
+                        if (!equal(response, responseStart, newline, want)) {
+                            mismatches++;
+                        }
+                        responseStart = newline + 1;
+                        scan = responseStart;
+                        answered++;
+                    }
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+    }
+
+    private static boolean equal(byte[] bytes, int from, int to, byte[] want) {
+        if (to - from != want.length) {
+            return false;
+        }
+        for (int i = 0; i < want.length; i++) {
+            if (bytes[from + i] != want[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))] / 1e3;
+    }
+
+    /**
+     * Builds a request mix of Arabic numbers and numerals over the whole range, with 5 percent malformed.
+     */
+    private static String[] lines(int size) throws ValueOutOfBoundsException {
+        Random random = new Random(3733);
+        int[] values = Inputs.values(size);
+        String[] lines = new String[size];
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(100) < 5) {
+                lines[i] = MALFORMED[random.nextInt(MALFORMED.length)];
+            } else if (random.nextBoolean()) {
+                lines[i] = Integer.toString(values[i]);
+            } else {
+                lines[i] = ElbonianArabicConverter.toElbonian(values[i]);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the response the protocol calls for, worked out with the converter in this process.
+     */
+    private static String expected(String line) {
+        try {
+            ElbonianArabicConverter converter = new ElbonianArabicConverter(line);
+            String trimmed = line.trim();
+            if (Character.isDigit(trimmed.charAt(trimmed.length() - 1))) {
+                return converter.toElbonian();
+            }
+            return Integer.toString(converter.toArabic());
+        } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+}
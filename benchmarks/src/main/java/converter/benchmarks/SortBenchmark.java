@@ -0,0 +1,92 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianOrder;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sorting numerals by value: with a comparator that builds a converter per comparison, with
+ * {@link ElbonianOrder#COMPARATOR}, and with the radix sort. Each invocation sorts a fresh copy of the
+ * same shuffled numerals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+
+    private static final Comparator<String> CONVERTING = new Comparator<String>() {
+        @Override
+        public int compare(String a, String b) {
+            try {
+                return Integer.compare(new ElbonianArabicConverter(a).toArabic(),
+                        new ElbonianArabicConverter(b).toArabic());
+            } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
+    @Param({"100000"})
+    public int size;
+
+    private String[] numerals;
+    private String[] work;
+
+    @Setup
+    public void setUp() throws ValueOutOfBoundsException {
+        int[] values = Inputs.values(size);
+        numerals = new String[size];
+        for (int i = 0; i < size; i++) {
+            numerals[i] = ElbonianArabicConverter.toElbonian(values[i]);
+            try {
+                new ElbonianArabicConverter(numerals[i]);
+            } catch (MalformedNumberException e) {
+                // Some canonical numerals, such as LLLI, are rejected by the constructor
+                numerals[i] = "Z";
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        work = numerals.clone();
+    }
+
+    @Benchmark
+    public String[] convertingComparator() {
+        Arrays.sort(work, CONVERTING);
+        return work;
+    }
+
+    @Benchmark
+    public String[] orderComparator() {
+        Arrays.sort(work, ElbonianOrder.COMPARATOR);
+        return work;
+    }
+
+    @Benchmark
+    public String[] radixSort() throws MalformedNumberException {
+        ElbonianOrder.sort(work);
+        return work;
+    }
+}
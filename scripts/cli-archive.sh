@@ -0,0 +1,40 @@
+#!/bin/sh
+# Builds what the ConverterCli needs for a fast cold start: the project jar, the memory mapped table
+# file and an AppCDS archive of every class the CLI loads. The archive is recorded by a training run
+# over every value, so both conversion directions are in it.
+#
+# The archive uses -XX:ArchiveClassesAtExit, which needs a JDK 13 or later to build and to run with,
+# even though the classes themselves target Java 8. The archive only works with the exact JVM and jar
+# it was made with, so run this script again after either one changes.
+#
+# Usage: scripts/cli-archive.sh [output directory]
+set -e
+
+cd "$(dirname "$0")/.."
+out="${1:-build/cli}"
+java="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+./gradlew -q jar
+mkdir -p "$out"
+cp build/libs/CS3733_Assignment_4-1.0.jar "$out/converter.jar"
+
+"$java" -cp "$out/converter.jar" converter.ElbonianTableFile "$out/elbonian.table"
+
+# The training run converts every value to Elbonian and back, and sees a rejected line as well
+{
+    seq -9999 9999
+    seq -9999 9999 | "$java" -cp "$out/converter.jar" converter.ConverterCli -t "$out/elbonian.table"
+    echo NNNNM
+} | "$java" -XX:ArchiveClassesAtExit="$out/converter.jsa" -cp "$out/converter.jar" \
+    converter.ConverterCli -t "$out/elbonian.table" > /dev/null || true
+
+cat > "$out/elbonian" <<SCRIPT
+#!/bin/sh
+# Converts standard input to standard output with ConverterCli
+dir="\$(cd "\$(dirname "\$0")" && pwd)"
+exec "$java" -XX:SharedArchiveFile="\$dir/converter.jsa" -XX:TieredStopAtLevel=1 \\
+    -cp "\$dir/converter.jar" converter.ConverterCli -t "\$dir/elbonian.table" "\$@"
+SCRIPT
+chmod +x "$out/elbonian"
+
+echo "Run $out/elbonian < input > output"
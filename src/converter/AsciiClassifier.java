@@ -0,0 +1,149 @@
+package converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A cheap first pass over raw ASCII records that sorts them into Arabic candidates, Elbonian candidates
+ * and records that can never be valid, so obviously bad records can be dropped before the full rule
+ * check in {@link BatchConverter} or {@link ElbonianPushParser}. Digits are checked eight bytes at a
+ * time on a long (SWAR). Symbols are looked up one byte at a time, since the same lookup gives the
+ * rank that their order is checked with.
+ *
+ * A record is trimmed of leading and trailing whitespace like the converter does. It is an Arabic
+ * candidate if it is an optional sign followed by digits, and an Elbonian candidate if it is Z, or an
+ * optional minus followed by Elbonian symbols in order from N down to I. Bounds and repeat rules are
+ * left to the full parser, so a candidate can still be rejected, but a record classed as
+ * {@link #INVALID} is always rejected.
+ */
+public final class AsciiClassifier {
+    public static final byte INVALID = 0;
+    public static final byte ARABIC = 1;
+    public static final byte ELBONIAN = 2;
+
+    private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+
+    private AsciiClassifier() {
+    }
+
+    /**
+     * Classifies one record in an array.
+     *
+     * @param bytes The bytes holding the record
+     * @param from The index of the first byte of the record
+     * @param to The index after the last byte of the record
+     * @return {@link #INVALID}, {@link #ARABIC} or {@link #ELBONIAN}
+     */
+    public static byte classify(byte[] bytes, int from, int to) {
+        while (from < to && (bytes[from] & 0xFF) <= ' ') {
+            from++;
+        }
+        while (to > from && (bytes[to - 1] & 0xFF) <= ' ') {
+            to--;
+        }
+        if (to - from == 1 && bytes[from] == 'Z') {
+            return ELBONIAN;
+        }
+        if (from < to && bytes[from] == '+') {
+            return to - from > 1 && digits(bytes, from + 1, to) ? ARABIC : INVALID;
+        }
+        if (from < to && bytes[from] == '-') {
+            from++;
+        }
+        if (from == to) {
+            return INVALID;
+        }
+        if (digits(bytes, from, to)) {
+            return ARABIC;
+        }
+        return symbols(bytes, from, to) ? ELBONIAN : INVALID;
+    }
+
+    /**
+     * Classifies one record in a buffer. The indexes are absolute and the position of the buffer is not
+     * used or changed. A buffer without an accessible array, such as a direct one, has the record copied
+     * out first.
+     *
+     * @param buffer The buffer holding the record
+     * @param from The index of the first byte of the record
+     * @param to The index after the last byte of the record
+     * @return {@link #INVALID}, {@link #ARABIC} or {@link #ELBONIAN}
+     */
+    public static byte classify(ByteBuffer buffer, int from, int to) {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return classify(buffer.array(), offset + from, offset + to);
+        }
+        byte[] record = new byte[to - from];
+        ByteBuffer view = buffer.duplicate();
+        view.position(from);
+        view.get(record);
+        return classify(record, 0, record.length);
+    }
+
+    /**
+     * Classifies a run of records stored back to back. Record i runs from offsets[i] to offsets[i + 1].
+     *
+     * @param data The bytes of every record
+     * @param offsets The start of each record, followed by the end of the last one
+     * @param outClass Receives the class of each record
+     * @return The number of records that are not {@link #INVALID}
+     */
+    public static int classifyAll(byte[] data, int[] offsets, byte[] outClass) {
+        int records = offsets.length - 1;
+        if (outClass.length < records) {
+            throw new IllegalArgumentException("Output array is shorter than the number of records");
+        }
+        int candidates = 0;
+        for (int i = 0; i < records; i++) {
+            outClass[i] = classify(data, offsets[i], offsets[i + 1]);
+            if (outClass[i] != INVALID) {
+                candidates++;
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean digits(byte[] bytes, int from, int to) {
+        int index = from;
+        for (; index + 8 <= to; index += 8) {
+            long word = word(bytes, index);
+            // Every byte is 0x30-0x39 exactly when its high nibble is 3 and adding 6 keeps it at 3
+            long nibbles = (word & HIGH_NIBBLES) | (((word + 0x0606060606060606L) & HIGH_NIBBLES) >>> 4);
+            if (nibbles != 0x3333333333333333L) {
+                return false;
+            }
+        }
+        for (; index < to; index++) {
+            byte b = bytes[index];
+            if (b < '0' || b > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads eight bytes as a little endian long. Only a carry out of a byte that is already not a digit
+     * can reach its neighbour, so the digit check does not depend on the byte order.
+     */
+    private static long word(byte[] bytes, int index) {
+        long word = 0;
+        for (int i = 7; i >= 0; i--) {
+            word = word << 8 | (bytes[index + i] & 0xFF);
+        }
+        return word;
+    }
+
+    private static boolean symbols(byte[] bytes, int from, int to) {
+        // A byte that is not a symbol has rank -1, so it fails the order check as well
+        int previous = 0;
+        for (int index = from; index < to; index++) {
+            int rank = ElbonianTables.rank(bytes[index]);
+            if (rank < previous) {
+                return false;
+            }
+            previous = rank;
+        }
+        return true;
+    }
+}
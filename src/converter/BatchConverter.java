@@ -0,0 +1,105 @@
+package converter;
+
+/**
+ * Converts whole arrays of numbers at once. Instead of throwing an exception for every bad element,
+ * each element gets a {@link ConversionStatus} code in a status array, so a batch with many malformed
+ * records creates no exceptions and no converter objects.
+ */
+public final class BatchConverter {
+
+    private BatchConverter() {
+    }
+
+    /**
+     * Reads every string in the array as an Arabic or Elbonian number, the same way the
+     * {@link ElbonianArabicConverter} constructor does.
+     *
+     * @param in The numbers to read
+     * @param outValues Receives the arabic value of each number, or 0 if it could not be read
+     * @param outStatus Receives the status of each number
+     * @return The number of elements that were read successfully
+     */
+    public static int convertAll(CharSequence[] in, int[] outValues, byte[] outStatus) {
+        return convertAll(in, 0, in.length, outValues, outStatus);
+    }
+
+    /**
+     * Reads part of an array as Arabic or Elbonian numbers. Results are stored at the same index as
+     * the number they came from.
+     *
+     * @param in The numbers to read
+     * @param from The index of the first number
+     * @param to The index after the last number
+     * @param outValues Receives the arabic value of each number, or 0 if it could not be read
+     * @param outStatus Receives the status of each number
+     * @return The number of elements that were read successfully
+     */
+    public static int convertAll(CharSequence[] in, int from, int to, int[] outValues, byte[] outStatus) {
+        checkRange(in.length, from, to, outValues.length, outStatus.length);
+        int converted = 0;
+        for (int index = from; index < to; index++) {
+            int result = ElbonianParser.parse(in[index]);
+            if (ElbonianParser.isError(result)) {
+                outValues[index] = 0;
+                outStatus[index] = ElbonianParser.status(result);
+                if (ConverterMetrics.ENABLED) {
+                    ConverterMetrics.status(outStatus[index]);
+                }
+            } else {
+                outValues[index] = result;
+                outStatus[index] = ConversionStatus.OK;
+                converted++;
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Converts every value in the array to an Elbonian numeral.
+     *
+     * @param in The arabic values to convert
+     * @param outNumerals Receives the numeral for each value, or null if it is out of bounds
+     * @param outStatus Receives the status of each value
+     * @return The number of values that were converted
+     */
+    public static int convertAll(int[] in, String[] outNumerals, byte[] outStatus) {
+        return convertAll(in, 0, in.length, outNumerals, outStatus);
+    }
+
+    /**
+     * Converts part of an array of values to Elbonian numerals. Results are stored at the same index as
+     * the value they came from.
+     *
+     * @param in The arabic values to convert
+     * @param from The index of the first value
+     * @param to The index after the last value
+     * @param outNumerals Receives the numeral for each value, or null if it is out of bounds
+     * @param outStatus Receives the status of each value
+     * @return The number of values that were converted
+     */
+    public static int convertAll(int[] in, int from, int to, String[] outNumerals, byte[] outStatus) {
+        checkRange(in.length, from, to, outNumerals.length, outStatus.length);
+        int converted = 0;
+        for (int index = from; index < to; index++) {
+            int value = in[index];
+            if (ElbonianTables.inRange(value)) {
+                outNumerals[index] = ElbonianTables.string(value);
+                outStatus[index] = ConversionStatus.OK;
+                converted++;
+            } else {
+                outNumerals[index] = null;
+                outStatus[index] = ConversionStatus.OUT_OF_BOUNDS;
+            }
+        }
+        return converted;
+    }
+
+    static void checkRange(int length, int from, int to, int valuesLength, int statusLength) {
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException("Range " + from + " to " + to + " of " + length);
+        }
+        if (valuesLength < to || statusLength < to) {
+            throw new IllegalArgumentException("Output arrays are shorter than the input range");
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package converter;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A reactive stage that converts a stream of numbers. Items are asked for from upstream a batch at a
+ * time, and each full batch is converted in one loop before its results are sent on. Every item gives
+ * one {@link ConversionResult}, so a malformed or out of bounds number is passed on as a failed result
+ * and does not end the stream.
+ *
+ * Backpressure is kept end to end. A new batch is only asked for once the subscriber has demand and
+ * every result of the previous batch has been sent, so the stage never holds much more than one batch.
+ * Items are held until their batch is full or the upstream completes, so a stage over a slow source
+ * should use a small batch size. A stage has at most one subscriber.
+ *
+ * @param <T> The type of the items that are converted
+ */
+public abstract class ConversionProcessor<T> implements Flow.Processor<T, ConversionResult> {
+    private final int batchSize;
+
+    // Only touched by the upstream signals, which the upstream calls one at a time
+    private final Object[] batch;
+    private int batchCount;
+
+    private final Queue<ConversionResult[]> converted = new ConcurrentLinkedQueue<ConversionResult[]>();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger drains = new AtomicInteger();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super ConversionResult> downstream;
+    private volatile boolean awaiting;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private volatile Throwable error;
+    private volatile Throwable badRequest;
+
+    // Only touched inside drain()
+    private ConversionResult[] current;
+    private int currentIndex;
+    private boolean terminated;
+
+    ConversionProcessor(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+        this.batch = new Object[batchSize];
+    }
+
+    /**
+     * Creates a stage that reads Arabic or Elbonian numbers with the same rules as the
+     * {@link ElbonianArabicConverter} constructor.
+     *
+     * @param batchSize The number of items asked for from upstream at a time
+     * @return The stage
+     */
+    public static ConversionProcessor<CharSequence> parsing(int batchSize) {
+        return new Parsing(batchSize);
+    }
+
+    /**
+     * Creates a stage that turns arabic values into Elbonian numerals.
+     *
+     * @param batchSize The number of items asked for from upstream at a time
+     * @return The stage
+     */
+    public static ConversionProcessor<Integer> formatting(int batchSize) {
+        return new Formatting(batchSize);
+    }
+
+    /**
+     * Converts one batch.
+     *
+     * @param items The items, of the type this stage receives
+     * @param count The number of items in the batch
+     * @return A result for each item
+     */
+    abstract ConversionResult[] convert(Object[] items, int count);
+
+    private static final class Parsing extends ConversionProcessor<CharSequence> {
+        Parsing(int batchSize) {
+            super(batchSize);
+        }
+
+        @Override
+        ConversionResult[] convert(Object[] items, int count) {
+            ConversionResult[] results = new ConversionResult[count];
+            for (int i = 0; i < count; i++) {
+                int result = ElbonianParser.parse((CharSequence) items[i]);
+                if (ElbonianParser.isError(result)) {
+                    byte status = ElbonianParser.status(result);
+                    if (ConverterMetrics.ENABLED) {
+                        ConverterMetrics.status(status);
+                    }
+                    results[i] = ConversionResult.failed(status);
+                } else {
+                    results[i] = ConversionResult.ok(result);
+                }
+            }
+            return results;
+        }
+    }
+
+    private static final class Formatting extends ConversionProcessor<Integer> {
+        Formatting(int batchSize) {
+            super(batchSize);
+        }
+
+        @Override
+        ConversionResult[] convert(Object[] items, int count) {
+            ConversionResult[] results = new ConversionResult[count];
+            for (int i = 0; i < count; i++) {
+                int value = (Integer) items[i];
+                results[i] = ElbonianTables.inRange(value) ? ConversionResult.ok(value)
+                        : ConversionResult.failed(ConversionStatus.OUT_OF_BOUNDS);
+            }
+            return results;
+        }
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ConversionResult> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Null subscriber");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("A conversion stage has only one subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    badRequest = new IllegalArgumentException("Request must be positive, was " + n);
+                    cancelUpstream();
+                } else {
+                    addDemand(n);
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelUpstream();
+                drain();
+            }
+        });
+        downstream = subscriber;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (upstream != null || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        drain();
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (item == null) {
+            throw new NullPointerException("Null item");
+        }
+        batch[batchCount++] = item;
+        if (batchCount == batchSize) {
+            publishBatch();
+            awaiting = false;
+            drain();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+        onComplete();
+    }
+
+    @Override
+    public void onComplete() {
+        publishBatch();
+        done = true;
+        drain();
+    }
+
+    private void publishBatch() {
+        if (batchCount > 0) {
+            converted.offer(convert(batch, batchCount));
+            Arrays.fill(batch, 0, batchCount, null);
+            batchCount = 0;
+        }
+    }
+
+    private void addDemand(long n) {
+        long requested;
+        long updated;
+        do {
+            requested = demand.get();
+            updated = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+        } while (!demand.compareAndSet(requested, updated));
+    }
+
+    private void cancelUpstream() {
+        cancelled = true;
+        Flow.Subscription subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Sends results while there is demand, then asks upstream for the next batch or ends the stream.
+     * Only one thread drains at a time. A call that arrives while another thread is draining makes that
+     * thread go round again instead of waiting.
+     */
+    private void drain() {
+        if (drains.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super ConversionResult> subscriber = downstream;
+            if (subscriber != null && !terminated) {
+                if (badRequest != null) {
+                    terminated = true;
+                    converted.clear();
+                    subscriber.onError(badRequest);
+                } else if (cancelled) {
+                    terminated = true;
+                    converted.clear();
+                } else {
+                    send(subscriber);
+                }
+            }
+            missed = drains.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void send(Flow.Subscriber<? super ConversionResult> subscriber) {
+        long requested = demand.get();
+        long emitted = 0;
+        while (emitted != requested && !cancelled) {
+            if (current == null || currentIndex == current.length) {
+                current = converted.poll();
+                currentIndex = 0;
+                if (current == null) {
+                    break;
+                }
+            }
+            subscriber.onNext(current[currentIndex++]);
+            emitted++;
+        }
+        if (emitted != 0) {
+            demand.addAndGet(-emitted);
+        }
+        // Read done before checking for results, since the last batch is queued before done is set
+        boolean finished = done;
+        boolean empty = (current == null || currentIndex == current.length) && converted.isEmpty();
+        if (!empty || cancelled) {
+            return;
+        }
+        if (finished) {
+            terminated = true;
+            if (error != null) {
+                subscriber.onError(error);
+            } else {
+                subscriber.onComplete();
+            }
+        } else if (!awaiting && demand.get() > 0 && upstream != null) {
+            awaiting = true;
+            upstream.request(batchSize);
+        }
+    }
+}
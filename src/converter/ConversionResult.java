@@ -0,0 +1,90 @@
+package converter;
+
+/**
+ * The outcome of converting one number, for callers that pass outcomes along as data rather than as
+ * exceptions. A successful result holds the arabic value and its Elbonian numeral. A failed result holds
+ * the {@link ConversionStatus} explaining why.
+ */
+public final class ConversionResult {
+    private final int value;
+    private final byte status;
+
+    private ConversionResult(int value, byte status) {
+        this.value = value;
+        this.status = status;
+    }
+
+    /**
+     * Creates a successful result.
+     *
+     * @param value A value between -9999 and 9999
+     * @return The result
+     */
+    static ConversionResult ok(int value) {
+        return new ConversionResult(value, ConversionStatus.OK);
+    }
+
+    /**
+     * Creates a failed result.
+     *
+     * @param status The reason the conversion failed
+     * @return The result
+     */
+    static ConversionResult failed(byte status) {
+        return new ConversionResult(0, status);
+    }
+
+    /**
+     * @return True if the conversion succeeded
+     */
+    public boolean isOk() {
+        return status == ConversionStatus.OK;
+    }
+
+    /**
+     * @return The {@link ConversionStatus} of the conversion
+     */
+    public byte getStatus() {
+        return status;
+    }
+
+    /**
+     * @return The message of the status, as the matching exception would carry it
+     */
+    public String getMessage() {
+        return ConversionStatus.message(status);
+    }
+
+    /**
+     * @return The arabic value, or 0 if the conversion failed
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * @return The Elbonian numeral, or null if the conversion failed
+     */
+    public String getNumeral() {
+        return isOk() ? ElbonianTables.string(value) : null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof ConversionResult)) {
+            return false;
+        }
+        ConversionResult result = (ConversionResult) other;
+        return value == result.value && status == result.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * value + status;
+    }
+
+    @Override
+    public String toString() {
+        return isOk() ? value + " " + getNumeral() : getMessage();
+    }
+}
@@ -0,0 +1,178 @@
+package converter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A small TCP server that converts numbers for other processes, so that each service does not have to
+ * embed and warm up its own copy of the converter.
+ *
+ * The protocol is one request per line. A request is an Arabic or Elbonian number, read with the same
+ * rules as the {@link ElbonianArabicConverter} constructor. The response is one line holding the
+ * number converted to the other form, or "ERR " followed by the reason the number was rejected.
+ * Responses are sent in the order the requests arrived, so a client may pipeline any number of
+ * requests on one connection without waiting. Responses are collected in a buffer and only written
+ * once every request the server has received so far is answered, so a pipelined batch is answered
+ * with a few large writes instead of one write per line.
+ *
+ * Each connection is served by its own thread from a pool.
+ */
+public final class ConversionServer implements Closeable {
+    public static final int DEFAULT_PORT = 7373;
+
+    private static final int INPUT_SIZE = 16 << 10;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections;
+    private final Thread acceptor;
+    private final Set<Socket> open = Collections.newSetFromMap(new ConcurrentHashMap<Socket, Boolean>());
+    private volatile boolean closed;
+
+    /**
+     * Starts a server on the loopback address.
+     *
+     * @param port The port to listen on, or 0 to pick a free port
+     * @throws IOException Thrown if the port cannot be bound
+     */
+    public ConversionServer(int port) throws IOException {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    /**
+     * Starts a server.
+     *
+     * @param address The address to listen on
+     * @throws IOException Thrown if the address cannot be bound
+     */
+    public ConversionServer(InetSocketAddress address) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(address);
+        connections = Executors.newCachedThreadPool(threads("conversion-connection-"));
+        acceptor = threads("conversion-acceptor-").newThread(new Runnable() {
+            @Override
+            public void run() {
+                accept();
+            }
+        });
+        acceptor.start();
+    }
+
+    /**
+     * @return The port the server is listening on
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting connections and closes the open ones.
+     *
+     * @throws IOException Thrown if the server socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        try {
+            acceptor.join();
+            connections.shutdown();
+            // Blocked reads do not notice an interrupt, so the sockets are closed under them
+            for (Socket socket : open) {
+                socket.close();
+            }
+            connections.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void accept() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                open.add(socket);
+                connections.execute(new Connection(socket));
+            } catch (IOException e) {
+                if (!closed) {
+                    System.err.println("Accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static ThreadFactory threads(final String prefix) {
+        final AtomicInteger count = new AtomicInteger();
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, prefix + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    /**
+     * Serves one client, writing the response to each request into the output buffer.
+     */
+    private final class Connection extends ResponseWriter implements Runnable {
+        private final Socket socket;
+
+        Connection(Socket socket) {
+            super(null, INPUT_SIZE);
+            this.socket = socket;
+        }
+
+        @Override
+        public void run() {
+            try {
+                answer(socket.getInputStream(), socket.getOutputStream());
+            } catch (SocketException e) {
+                // The client went away or the server is closing
+            } catch (IOException e) {
+                System.err.println("Connection failed: " + e.getMessage());
+            } finally {
+                open.remove(socket);
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // Nothing left to do with the socket
+                }
+            }
+        }
+
+        @Override
+        boolean stopped() {
+            return closed;
+        }
+    }
+
+    /**
+     * Runs a server until the process is stopped.
+     *
+     * @param args Optionally the port to listen on, which defaults to 7373
+     * @throws IOException Thrown if the port cannot be bound
+     * @throws InterruptedException Thrown if the main thread is interrupted
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        ConversionServer server = new ConversionServer(port);
+        System.out.println("Listening on port " + server.getPort());
+        server.acceptor.join();
+    }
+}
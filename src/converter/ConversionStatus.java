@@ -0,0 +1,67 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+/**
+ * The outcomes of converting a single number. Every reason a string can be rejected has its own code,
+ * and each code keeps the message that the matching exception is created with.
+ */
+public final class ConversionStatus {
+    public static final byte OK = 0;
+    public static final byte NULL = 1;
+    public static final byte SPACE = 2;
+    public static final byte LONE_SIGN = 3;
+    public static final byte OUT_OF_BOUNDS = 4;
+    public static final byte EMPTY = 5;
+    public static final byte INVALID = 6;
+    public static final byte THREE_N_WITH_M = 7;
+    public static final byte THREE_D_WITH_C = 8;
+    public static final byte THREE_L_WITH_X = 9;
+    public static final byte THREE_V_WITH_I = 10;
+    public static final byte RUN_LENGTH = 11;
+
+    private static final String[] MESSAGES = {
+            "OK",
+            "Null string",
+            "Space in middle",
+            "Invalid string",
+            "Arabic value out of bounds",
+            "Empty String",
+            "invalid",
+            "Three N contains M",
+            "Three D contains C",
+            "Three L contains X",
+            "Three V contains I",
+            "Two and three in a rows do not conform"
+    };
+
+    private ConversionStatus() {
+    }
+
+    /**
+     * Returns the description of a status, which is the message used for its exception.
+     *
+     * @param status A status code
+     * @return The description of the status
+     */
+    public static String message(byte status) {
+        return MESSAGES[status];
+    }
+
+    /**
+     * Throws the exception that matches a status. Nothing happens if the status is OK.
+     *
+     * @param status A status code
+     * @throws ValueOutOfBoundsException Thrown if the status is OUT_OF_BOUNDS
+     * @throws MalformedNumberException Thrown for every other status except OK
+     */
+    public static void check(byte status) throws MalformedNumberException, ValueOutOfBoundsException {
+        if (status == OUT_OF_BOUNDS) {
+            throw new ValueOutOfBoundsException(MESSAGES[status]);
+        }
+        if (status != OK) {
+            throw new MalformedNumberException(MESSAGES[status]);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread safe cache of converters keyed by the string they were made from. Strings that
+ * could not be converted are cached too, by their {@link ConversionStatus}, so that repeated bad input
+ * is rejected without being parsed again.
+ *
+ * The cache is split into segments by hash, each an access ordered map behind its own lock, so the
+ * least recently used entry of a segment is evicted when it fills up.
+ */
+public final class ConverterCache {
+    // Size of the shared cache when the converter.cache.size property is not set
+    static final int DEFAULT_CAPACITY = 4096;
+    private static final int SEGMENTS = 16;
+
+    private final int capacity;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private static final class Shared {
+        static final ConverterCache INSTANCE =
+                new ConverterCache(Integer.getInteger("converter.cache.size", DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Creates a cache that holds about the given number of entries.
+     *
+     * @param capacity The most entries the cache holds
+     */
+    public ConverterCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        int segmentCount = Math.min(SEGMENTS, capacity);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // Spread the capacity so that the segments add up to it
+            segments[i] = new Segment(capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * Returns the cache used by {@link ElbonianArabicConverter#of(String)}. Its capacity is read from
+     * the converter.cache.size system property when it is first used.
+     *
+     * @return The shared cache
+     */
+    public static ConverterCache shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Returns the converter for a string, creating and caching it if needed.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number
+     * @return A shared converter for the number
+     * @throws ValueOutOfBoundsException Thrown if the value is an Arabic integer that cannot be represented
+     * in the Elbonian number system.
+     * @throws MalformedNumberException Thrown if the string is not a valid number
+     */
+    public ElbonianArabicConverter get(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        if (number == null) {
+            throw new MalformedNumberException(ConversionStatus.message(ConversionStatus.NULL));
+        }
+        Segment segment = segments[(spread(number.hashCode()) & Integer.MAX_VALUE) % segments.length];
+        Object cached;
+        synchronized (segment) {
+            cached = segment.get(number);
+        }
+        if (cached != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            cached = load(number);
+            synchronized (segment) {
+                segment.put(number, cached);
+            }
+        }
+        if (cached instanceof Byte) {
+            // Every rejection is counted, whether or not the string was parsed again
+            byte status = (Byte) cached;
+            if (ConverterMetrics.ENABLED) {
+                ConverterMetrics.status(status);
+            }
+            ConversionStatus.check(status);
+        }
+        return (ElbonianArabicConverter) cached;
+    }
+
+    private static Object load(String number) {
+        long started = ConverterMetrics.ENABLED ? System.nanoTime() : 0;
+        int result = ElbonianParser.parse(number);
+        byte status = ElbonianParser.status(result);
+        if (ConverterMetrics.ENABLED) {
+            ConverterMetrics.record(ConverterMetrics.CONSTRUCT, started);
+        }
+        if (status != ConversionStatus.OK) {
+            return status;
+        }
+        return new ElbonianArabicConverter(result);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @return The number of lookups that found an entry
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups that had to convert the string
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of entries removed to make room for new ones
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The most entries the cache holds
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The number of entries in the cache
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes every entry. The counters are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    private final class Segment extends LinkedHashMap<String, Object> {
+        private final int limit;
+
+        Segment(int limit) {
+            super(16, 0.75f, true);
+            this.limit = limit;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+            if (size() > limit) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
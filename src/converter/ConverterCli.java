@@ -0,0 +1,81 @@
+package converter;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Paths;
+
+/**
+ * A command line filter for shell and cron jobs. Each line of standard input is read as an Arabic or
+ * Elbonian number with the same rules as the {@link ElbonianArabicConverter} constructor, and one line
+ * is written to standard output for it: the number in the other form, or "ERR " followed by the
+ * reason it was rejected. The output has the same format as the {@link ConversionServer} responses.
+ *
+ * Input and output are handled as bytes in reusable buffers, so no String is made for any line. The
+ * numerals can be taken from a table file made by {@link ElbonianTableFile}, which is memory mapped
+ * instead of being built when the process starts. The file is given with -t or the converter.table
+ * system property. Without one, the tables are built in memory.
+ *
+ * The exit status is 0 if every line was converted, 1 if any line was rejected and 2 for bad
+ * arguments. Startup can be cut further with the class data sharing archive made by
+ * scripts/cli-archive.sh.
+ */
+public final class ConverterCli {
+    private static final int INPUT_SIZE = 64 << 10;
+
+    private final ResponseWriter writer;
+
+    /**
+     * Creates a converter that builds its tables in memory.
+     */
+    public ConverterCli() {
+        this(null);
+    }
+
+    /**
+     * Creates a converter that reads numerals from a mapped table.
+     *
+     * @param table The table, or null to build the tables in memory
+     */
+    public ConverterCli(ElbonianTableFile table) {
+        writer = new ResponseWriter(table, INPUT_SIZE);
+    }
+
+    /**
+     * Converts every line of a stream. The output is written when the buffer fills up and whenever
+     * no more input is waiting, so the converter also works as a co-process that is fed one line at
+     * a time.
+     *
+     * @param in The lines to convert
+     * @param out Receives one line for each input line
+     * @return The number of lines that were rejected
+     * @throws IOException Thrown if the input cannot be read or the output cannot be written
+     */
+    public long convert(InputStream in, OutputStream out) throws IOException {
+        return writer.answer(in, out);
+    }
+
+    /**
+     * Converts standard input to standard output.
+     *
+     * @param args Optionally -t followed by a table file
+     * @throws IOException Thrown if the table cannot be mapped or a stream fails
+     */
+    public static void main(String[] args) throws IOException {
+        String tablePath = System.getProperty("converter.table");
+        if (args.length == 2 && args[0].equals("-t")) {
+            tablePath = args[1];
+        } else if (args.length != 0) {
+            System.err.println("Usage: ConverterCli [-t table]");
+            System.exit(2);
+        }
+        ElbonianTableFile table = tablePath == null ? null : ElbonianTableFile.map(Paths.get(tablePath));
+        // The raw descriptors are used so that the bytes are not copied through a second buffer
+        long rejected = new ConverterCli(table).convert(new FileInputStream(FileDescriptor.in),
+                new FileOutputStream(FileDescriptor.out));
+        System.exit(rejected == 0 ? 0 : 1);
+    }
+}
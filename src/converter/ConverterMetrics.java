@@ -0,0 +1,163 @@
+package converter;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counters and latency histograms for the conversion hot paths. Recording is switched on by starting
+ * the JVM with -Dconverter.metrics=true, in which case the metrics are also registered with the
+ * platform MBean server. {@link #ENABLED} is a constant once the class is loaded, so when recording is
+ * off the JIT removes the instrumentation from the hot paths entirely.
+ */
+public final class ConverterMetrics implements ConverterMetricsMXBean {
+    public static final boolean ENABLED = Boolean.getBoolean("converter.metrics");
+    public static final String OBJECT_NAME = "converter:type=ConverterMetrics";
+
+    // The operations, with the timed ones first. toArabic() only returns a field, so it is counted
+    // without being timed
+    static final int CONSTRUCT = 0;
+    static final int TO_ELBONIAN = 1;
+    static final int TO_ARABIC = 2;
+
+    private static final int BUCKETS = 40;
+    private static final ConverterMetrics INSTANCE = new ConverterMetrics();
+
+    private final LongAdder[] calls = adders(3);
+    private final LongAdder[] rejections = adders(ConversionStatus.RUN_LENGTH + 1);
+    private final LongAdder[][] latencies = {adders(BUCKETS), adders(BUCKETS)};
+
+    static {
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                // Another copy of the class already registered its metrics, which are still recorded here
+            }
+        }
+    }
+
+    private ConverterMetrics() {
+    }
+
+    /**
+     * @return The metrics of this JVM
+     */
+    public static ConverterMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records a finished operation. Callers check {@link #ENABLED} and take the start time themselves.
+     *
+     * @param operation The operation that finished
+     * @param started The value of System.nanoTime() when it started
+     */
+    static void record(int operation, long started) {
+        long nanos = System.nanoTime() - started;
+        INSTANCE.calls[operation].increment();
+        INSTANCE.latencies[operation][Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos))].increment();
+    }
+
+    /**
+     * Records a call to an operation that is not timed. Callers check {@link #ENABLED} themselves.
+     *
+     * @param operation The operation that was called
+     */
+    static void count(int operation) {
+        INSTANCE.calls[operation].increment();
+    }
+
+    /**
+     * Records the outcome of reading a string.
+     *
+     * @param status The status of the string
+     */
+    static void status(byte status) {
+        if (status != ConversionStatus.OK) {
+            INSTANCE.rejections[status].increment();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ENABLED;
+    }
+
+    @Override
+    public long getConstructions() {
+        return calls[CONSTRUCT].sum();
+    }
+
+    @Override
+    public long getRejections() {
+        long total = 0;
+        for (LongAdder adder : rejections) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getToArabicCalls() {
+        return calls[TO_ARABIC].sum();
+    }
+
+    @Override
+    public long getToElbonianCalls() {
+        return calls[TO_ELBONIAN].sum();
+    }
+
+    @Override
+    public Map<String, Long> getRejectionsByReason() {
+        Map<String, Long> reasons = new LinkedHashMap<String, Long>();
+        for (byte status = 1; status < rejections.length; status++) {
+            reasons.put(ConversionStatus.message(status), rejections[status].sum());
+        }
+        return reasons;
+    }
+
+    @Override
+    public long[] getConstructLatencyHistogram() {
+        return sums(latencies[CONSTRUCT]);
+    }
+
+    @Override
+    public long[] getToElbonianLatencyHistogram() {
+        return sums(latencies[TO_ELBONIAN]);
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder adder : calls) {
+            adder.reset();
+        }
+        for (LongAdder adder : rejections) {
+            adder.reset();
+        }
+        for (LongAdder[] histogram : latencies) {
+            for (LongAdder adder : histogram) {
+                adder.reset();
+            }
+        }
+    }
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            sums[i] = adders[i].sum();
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,55 @@
+package converter;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link ConverterMetrics}, published over JMX as
+ * converter:type=ConverterMetrics.
+ */
+public interface ConverterMetricsMXBean {
+
+    /**
+     * @return True if the converter was started with -Dconverter.metrics=true
+     */
+    boolean isEnabled();
+
+    /**
+     * @return The number of converters constructed, including rejected input
+     */
+    long getConstructions();
+
+    /**
+     * @return The number of strings rejected, by constructors and batch conversions
+     */
+    long getRejections();
+
+    /**
+     * @return The number of toArabic() calls
+     */
+    long getToArabicCalls();
+
+    /**
+     * @return The number of toElbonian() calls
+     */
+    long getToElbonianCalls();
+
+    /**
+     * @return The number of rejected strings for each reason
+     */
+    Map<String, Long> getRejectionsByReason();
+
+    /**
+     * @return Constructor latencies, where bucket i counts calls that took less than 2^i nanoseconds
+     */
+    long[] getConstructLatencyHistogram();
+
+    /**
+     * @return toElbonian() latencies, where bucket i counts calls that took less than 2^i nanoseconds
+     */
+    long[] getToElbonianLatencyHistogram();
+
+    /**
+     * Sets every counter back to zero.
+     */
+    void reset();
+}
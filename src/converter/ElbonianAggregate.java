@@ -0,0 +1,118 @@
+package converter;
+
+/**
+ * Count, sum, minimum, maximum and a full value histogram of a set of Elbonian values, as built by
+ * {@link ElbonianAggregator}. Records that were not numerals are counted separately and left out of
+ * every other statistic. Like IntSummaryStatistics, the minimum of an empty aggregate is
+ * Integer.MAX_VALUE and the maximum is Integer.MIN_VALUE.
+ */
+public final class ElbonianAggregate {
+    private long count;
+    private long invalid;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    // Index 0 counts -9999 and index 19998 counts 9999
+    private final long[] histogram = new long[ElbonianTables.MAX_VALUE - ElbonianTables.MIN_VALUE + 1];
+
+    ElbonianAggregate() {
+    }
+
+    void add(int value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        histogram[value - ElbonianTables.MIN_VALUE]++;
+    }
+
+    void addInvalid() {
+        invalid++;
+    }
+
+    /**
+     * Adds the statistics of another aggregate to this one.
+     *
+     * @param other An aggregate of other records
+     * @return This aggregate
+     */
+    ElbonianAggregate merge(ElbonianAggregate other) {
+        count += other.count;
+        invalid += other.invalid;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += other.histogram[i];
+        }
+        return this;
+    }
+
+    /**
+     * @return The number of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return The number of records that were not numerals
+     */
+    public long getInvalid() {
+        return invalid;
+    }
+
+    /**
+     * @return The sum of the values
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * @return The smallest value, or Integer.MAX_VALUE if there are none
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * @return The largest value, or Integer.MIN_VALUE if there are none
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * @return The mean of the values, or 0 if there are none
+     */
+    public double getAverage() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns how many times a value was seen.
+     *
+     * @param value A value between -9999 and 9999
+     * @return The number of records holding the value
+     */
+    public long getFrequency(int value) {
+        if (!ElbonianTables.inRange(value)) {
+            throw new IllegalArgumentException("Not an Elbonian value: " + value);
+        }
+        return histogram[value - ElbonianTables.MIN_VALUE];
+    }
+
+    /**
+     * @return A copy of the histogram, where index i counts the value i - 9999
+     */
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", invalid=" + invalid + ", sum=" + sum + ", min=" + min + ", max=" + max;
+    }
+}
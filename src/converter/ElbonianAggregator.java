@@ -0,0 +1,147 @@
+package converter;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Totals and distributions of columns of Elbonian numerals, read straight from their bytes. Each
+ * numeral is valued by adding up a byte-indexed weight table in one pass, with no conversion and no
+ * objects per value. The parallel versions split the column with fork/join, build one partial
+ * {@link ElbonianAggregate} per piece and merge them.
+ *
+ * The kernel is meant for columns of canonical numerals, such as those written by
+ * {@link ElbonianColumn#encode(int[])}. A record counts as invalid if it has a byte that is not a
+ * symbol, is empty, is longer than the longest numeral or adds up to more than 9999, but the order
+ * and repeats of the symbols are not checked.
+ */
+public final class ElbonianAggregator {
+    // Weight of a byte that is not a symbol. It is larger than any sum of valid weights, so one such
+    // byte is enough to push a record out of range. Records are at most MAX_LENGTH bytes, so the sum
+    // cannot overflow
+    private static final int NOT_A_SYMBOL = 1 << 20;
+    private static final int[] WEIGHT = new int[256];
+
+    static {
+        Arrays.fill(WEIGHT, NOT_A_SYMBOL);
+        for (int rank = 0; rank < ElbonianTables.SYMBOLS.length; rank++) {
+            WEIGHT[ElbonianTables.SYMBOLS[rank]] = ElbonianTables.WEIGHTS[rank];
+        }
+    }
+
+    private ElbonianAggregator() {
+    }
+
+    /**
+     * Aggregates a column on the calling thread.
+     *
+     * @param column The numerals
+     * @return The statistics of the column
+     */
+    public static ElbonianAggregate aggregate(ElbonianColumn column) {
+        ElbonianAggregate aggregate = new ElbonianAggregate();
+        add(aggregate, column, 0, column.size());
+        return aggregate;
+    }
+
+    /**
+     * Aggregates numerals stored back to back in an array. Record i runs from offsets[i] to
+     * offsets[i + 1].
+     *
+     * @param data The bytes of every numeral
+     * @param offsets The start of each numeral, followed by the end of the last one
+     * @return The statistics of the numerals
+     */
+    public static ElbonianAggregate aggregate(byte[] data, int[] offsets) {
+        return aggregate(new ElbonianColumn(ByteBuffer.wrap(data), offsets));
+    }
+
+    /**
+     * Aggregates a column on the common pool.
+     *
+     * @param column The numerals
+     * @return The statistics of the column
+     */
+    public static ElbonianAggregate aggregateParallel(ElbonianColumn column) {
+        return aggregateParallel(column, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Aggregates a column on the given pool.
+     *
+     * @param column The numerals
+     * @param pool The pool to run the aggregation in
+     * @return The statistics of the column
+     */
+    public static ElbonianAggregate aggregateParallel(ElbonianColumn column, ForkJoinPool pool) {
+        int cutoff = ParallelConverter.cutoff(column.size(), pool.getParallelism());
+        return pool.invoke(new AggregateTask(column, 0, column.size(), cutoff));
+    }
+
+    private static void add(ElbonianAggregate aggregate, ElbonianColumn column, int from, int to) {
+        ByteBuffer data = column.data();
+        for (int index = from; index < to; index++) {
+            int start = column.offset(index);
+            int end = column.offset(index + 1);
+            // Longer records are never numerals, and enough stray bytes would overflow the sum
+            if (end - start > ElbonianTables.MAX_LENGTH) {
+                aggregate.addInvalid();
+                continue;
+            }
+            boolean negative = start < end && data.get(start) == '-';
+            if (negative) {
+                start++;
+            }
+            if (start == end) {
+                aggregate.addInvalid();
+                continue;
+            }
+            if (end - start == 1 && data.get(start) == 'Z') {
+                if (negative) {
+                    aggregate.addInvalid();
+                } else {
+                    aggregate.add(0);
+                }
+                continue;
+            }
+            int value = 0;
+            for (int i = start; i < end; i++) {
+                value += WEIGHT[data.get(i) & 0xFF];
+            }
+            if (value > ElbonianTables.MAX_VALUE) {
+                aggregate.addInvalid();
+            } else {
+                aggregate.add(negative ? -value : value);
+            }
+        }
+    }
+
+    private static final class AggregateTask extends RecursiveTask<ElbonianAggregate> {
+        private final ElbonianColumn column;
+        private final int from;
+        private final int to;
+        private final int cutoff;
+
+        AggregateTask(ElbonianColumn column, int from, int to, int cutoff) {
+            this.column = column;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected ElbonianAggregate compute() {
+            if (to - from <= cutoff) {
+                ElbonianAggregate aggregate = new ElbonianAggregate();
+                add(aggregate, column, from, to);
+                return aggregate;
+            }
+            int middle = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(column, from, middle, cutoff);
+            left.fork();
+            ElbonianAggregate right = new AggregateTask(column, middle, to, cutoff).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -3,32 +3,22 @@ package converter;
 import converter.exceptions.MalformedNumberException;
 import converter.exceptions.ValueOutOfBoundsException;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 
 /**
  * This class implements a converter that takes a string that represents a number in either the
  * Elbonian or Arabic numeral form. This class has methods that will return a value in the chosen form.
  *
+ * The string is read once, when the converter is created. Converters are values: two converters are
+ * equal when they hold the same number, whichever form it was written in, and they are ordered by it.
+ *
  * @version 3/18/17
  */
-public class ElbonianArabicConverter {
-    private final int n = 3000;
-    private final int m = 1000;
-    private final int d = 300;
-    private final int c = 100;
-    private final int l = 30;
-    private final int x = 10;
-    private final int v = 3;
-    private final int i = 1;
-    private final int z = 0;
-    private Map<Character, Integer> letterDictionary = new HashMap<Character, Integer>();
-    private final Character[] possibleChars = {'N', 'M', 'D', 'C', 'L', 'X', 'V', 'I', 'Z'};
-
-    // A string that holds the number (Elbonian or Arabic) you would like to convert
-    private final String number;
+public final class ElbonianArabicConverter implements Comparable<ElbonianArabicConverter> {
+    // The arabic value of the number you would like to convert
+    private final int value;
 
     /**
      * Constructor for the ElbonianArabic class that takes a string. The string should contain a valid
@@ -45,119 +35,43 @@ public class ElbonianArabicConverter {
 	 * Leading and trailing spaces should not throw an error.
      */
     public ElbonianArabicConverter(String number) throws MalformedNumberException, ValueOutOfBoundsException {
-        letterDictionary.put('N', n);
-        letterDictionary.put('M', m);
-        letterDictionary.put('D', d);
-        letterDictionary.put('C', c);
-        letterDictionary.put('L', l);
-        letterDictionary.put('X', x);
-        letterDictionary.put('V', v);
-        letterDictionary.put('I', i);
-        letterDictionary.put('Z', z);
-
-        // TODO check to see if the number is valid, then set it equal to the string
-        if(number == null){
-            throw new MalformedNumberException("Null string");
-        }
-        //Trim
-        number = number.trim();
-        //Check if there is space
-        if(number.contains(" ")){
-            throw new MalformedNumberException("Space in middle");
-        }
-        if(number.contains("-") && number.length() == 1){
-            throw new MalformedNumberException("Invalid string");
+        long started = ConverterMetrics.ENABLED ? System.nanoTime() : 0;
+        int result = ElbonianParser.parse(number);
+        byte status = ElbonianParser.status(result);
+        if (ConverterMetrics.ENABLED) {
+            ConverterMetrics.status(status);
+            ConverterMetrics.record(ConverterMetrics.CONSTRUCT, started);
         }
-        //Check if Arabic
-        try{
-            int arabic = Integer.parseInt(number);
-            //Check in bounds
-            if(arabic > 9999 || arabic < -9999){
-                throw new ValueOutOfBoundsException("Arabic value out of bounds");
-            }
-        }catch (NumberFormatException e){
-            if("".equals(number)){
-                throw new MalformedNumberException("Empty String");
-            }
-            //It's Elbonian
-            if(number.contains("Z")){
-                if(!number.matches("Z")){
-                    throw new MalformedNumberException("invalid");
-                }
-            }else{
-                if(!number.matches("-?N*M*D*C*L*X*V*I*")){
-                    throw new MalformedNumberException("invalid");
-                }
-            }
-            //For loop stuff
-            int numTwoInARows = 0;
-            int numThreeInARows = 0;
-
-            //Check for two and three in a rows
-            char previous = number.charAt(0);
-            for(int i = 0; i < number.length(); i++){
-                char current = number.charAt(i);
-                if(current == 'M' || current == 'C' || current == 'X' || current == 'I'){
-                    if(previous != current){
-                        numTwoInARows = 0;
-                    }
-                    numTwoInARows++;
-                    numThreeInARows = 0;
-                    previous = current;
-                }
-                else if(current == 'N' || current == 'D' || current == 'L' || current == 'V'){
-                    if(previous != current){
-                        numThreeInARows = 0;
-                    }
-                    numThreeInARows++;
-                    numTwoInARows = 0;
-                    previous = current;
-                    if(numThreeInARows == 3){
-                        switch (current){
-                            case 'N':
-                                if(number.contains("M")){
-                                    throw new MalformedNumberException("Three N contains M");
-                                }
-                                break;
-                            case 'D':
-                                if (number.contains("C")){
-                                    throw new MalformedNumberException("Three D contains C");
-                                }
-                                break;
-                            case 'L':
-                                if(number.contains("X")) {
-                                    throw new MalformedNumberException("Three L contains X");
-                                }
-                            case 'V':
-                                if (number.contains("I")) {
-                                    throw new MalformedNumberException("Three V contains I");
-                                }
-                            default:
-                            }
-                        }
-                    }
-                else if(current == 'Z'){
-                    if(i != 0){
-                        throw new MalformedNumberException("Z is not the only thing");
-                    }
-                }
-                else {
-                    if(i == 0 && number.charAt(i) == '-'){
-                        //okay
-                    }
-                    else{
-                        throw new MalformedNumberException("not a valid character");
-                    }
-                }
-                if(numThreeInARows > 3 || numTwoInARows > 2){
-                    throw new MalformedNumberException("Two and three in a rows do not conform");
-                }
-            }
+        ConversionStatus.check(status);
 
-        }
+        this.value = result;
+    }
 
+    /**
+     * Creates a converter for a value that has already been read and checked.
+     *
+     * @param value A value between -9999 and 9999
+     */
+    ElbonianArabicConverter(int value) {
+        this.value = value;
+    }
 
-        this.number = number;
+    /**
+     * Returns a converter for the string from a shared cache instead of creating a new one. Converters
+     * never change after they are created, so the same instance is handed to every caller. Strings that
+     * were rejected before are rejected again without being parsed. The size of the cache is set with the
+     * converter.cache.size system property, and its counters are available from
+     * {@link ConverterCache#shared()}.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @return A converter for the number
+     * @throws ValueOutOfBoundsException Thrown if the value is an Arabic integer that cannot be represented
+     * in the Elbonian number system.
+     * @throws MalformedNumberException Thrown if the value is an Elbonian number that does not conform
+     * to the rules of the Elbonian number system or any other error in Arabic number input.
+     */
+    public static ElbonianArabicConverter of(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        return ConverterCache.shared().get(number);
     }
 
     /**
@@ -167,19 +81,11 @@ public class ElbonianArabicConverter {
      * @return An arabic value
      */
     public int toArabic() {
-        // TODO Fill in the method's body
-        int totalValue = 0;
-        if(this.number.contains("-")){
-            for(int i = 1; i < this.number.length(); i++){ //go through each char in String number
-                totalValue -= letterDictionary.get(this.number.charAt(i));
-            }
+        if (ConverterMetrics.ENABLED) {
+            // There is nothing left to time, so only the call is counted
+            ConverterMetrics.count(ConverterMetrics.TO_ARABIC);
         }
-        else{
-            for(int i = 0; i < this.number.length(); i++){ //go through each char in String number
-                totalValue += letterDictionary.get(this.number.charAt(i));
-            }
-        }
-        return totalValue;
+        return value;
     }
 
     /**
@@ -188,49 +94,142 @@ public class ElbonianArabicConverter {
      * @return An Elbonian value
      */
     public String toElbonian() {
-        // TODO Fill in the method's body
-        int startingNum = Integer.parseInt(this.number);
-        String totalString = "";
-        if(startingNum < 0){
-            totalString += "-";
+        long started = ConverterMetrics.ENABLED ? System.nanoTime() : 0;
+        String numeral = ElbonianTables.string(value);
+        if (ConverterMetrics.ENABLED) {
+            ConverterMetrics.record(ConverterMetrics.TO_ELBONIAN, started);
         }
+        return numeral;
+    }
 
-        startingNum = Math.abs(startingNum);
+    /**
+     * Compares two converters by the value of their numbers.
+     *
+     * @param other Another converter
+     * @return A negative number, zero or a positive number as this number is less than, equal to or
+     * greater than the other
+     */
+    @Override
+    public int compareTo(ElbonianArabicConverter other) {
+        return Integer.compare(value, other.value);
+    }
 
+    /**
+     * Two converters are equal when their numbers have the same value, so "2202", " 2202 " and "MMCCII"
+     * are all equal.
+     *
+     * @param other The object to compare with
+     * @return True if the other object is a converter for the same value
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ElbonianArabicConverter && ((ElbonianArabicConverter) other).value == value;
+    }
 
-        if(startingNum == 0){
-            return "Z";
-        }
+    @Override
+    public int hashCode() {
+        return value;
+    }
+
+    /**
+     * Converts an Arabic value to its Elbonian numeral without creating a converter. The numerals are
+     * looked up in a table that is built the first time this method is called.
+     *
+     * @param value An arabic value
+     * @return The Elbonian numeral for the value
+     * @throws ValueOutOfBoundsException Thrown if the value is not between -9999 and 9999
+     */
+    public static String toElbonian(int value) throws ValueOutOfBoundsException {
+        checkBounds(value);
+        return ElbonianTables.string(value);
+    }
+
+    /**
+     * Appends the Elbonian numeral for an Arabic value to a builder without creating a string.
+     *
+     * @param value An arabic value
+     * @param out The builder to append to
+     * @return The builder
+     * @throws ValueOutOfBoundsException Thrown if the value is not between -9999 and 9999
+     */
+    public static StringBuilder appendElbonian(int value, StringBuilder out) throws ValueOutOfBoundsException {
+        checkBounds(value);
+        return out.append(ElbonianTables.chars(value));
+    }
+
+    /**
+     * Appends the Elbonian numeral for an Arabic value to any character sink, such as a Writer.
+     *
+     * @param value An arabic value
+     * @param out The sink to append to
+     * @return The sink
+     * @throws ValueOutOfBoundsException Thrown if the value is not between -9999 and 9999
+     * @throws IOException Thrown if the sink cannot be written to
+     */
+    public static Appendable appendElbonian(int value, Appendable out) throws ValueOutOfBoundsException, IOException {
+        checkBounds(value);
+        return out.append(ElbonianTables.string(value));
+    }
 
-        while(startingNum > 0){
-            if(startingNum - 3000 >= 0) {
-                totalString += "N";
-                startingNum -= 3000;
-            } else if(startingNum - 1000 >= 0){
-                totalString += "M";
-                startingNum -= 1000;
-            } else if(startingNum - 300 >= 0){
-                totalString += "D";
-                startingNum -= 300;
-            }else if(startingNum-100 >= 0){
-                totalString += "C";
-                startingNum -= 100;
-            }else if(startingNum - 30 >= 0){
-                totalString += "L";
-                startingNum -= 30;
-            }else if(startingNum - 10 >= 0){
-                totalString += "X";
-                startingNum -= 10;
-            }else if(startingNum - 3 >= 0){
-                totalString += "V";
-                startingNum -= 3;
-            }else if(startingNum - 1 >= 0){
-                totalString += "I";
-                startingNum -= 1;
-            }
+    /**
+     * Writes the Elbonian numeral for an Arabic value into a character array. At most 17 characters
+     * are written, which is the length of the longest numeral.
+     *
+     * @param value An arabic value
+     * @param dst The array to write to
+     * @param off The index to write the first character at
+     * @return The number of characters written
+     * @throws ValueOutOfBoundsException Thrown if the value is not between -9999 and 9999
+     * @throws IndexOutOfBoundsException Thrown if the numeral does not fit, in which case nothing is written
+     */
+    public static int writeElbonian(int value, char[] dst, int off) throws ValueOutOfBoundsException {
+        checkBounds(value);
+        char[] numeral = ElbonianTables.chars(value);
+        System.arraycopy(numeral, 0, dst, off, numeral.length);
+        return numeral.length;
+    }
+
+    /**
+     * Writes the Elbonian numeral for an Arabic value into a buffer as ASCII bytes, at its position,
+     * and moves the position past it.
+     *
+     * @param value An arabic value
+     * @param dst The buffer to write to
+     * @return The number of bytes written
+     * @throws ValueOutOfBoundsException Thrown if the value is not between -9999 and 9999
+     * @throws BufferOverflowException Thrown if the numeral does not fit, in which case nothing is written
+     */
+    public static int writeElbonian(int value, ByteBuffer dst) throws ValueOutOfBoundsException {
+        checkBounds(value);
+        byte[] numeral = ElbonianTables.bytes(value);
+        dst.put(numeral);
+        return numeral.length;
+    }
+
+    private static void checkBounds(int value) throws ValueOutOfBoundsException {
+        if (!ElbonianTables.inRange(value)) {
+            throw new ValueOutOfBoundsException("Arabic value out of bounds");
         }
+    }
 
-        return totalString;
+    /**
+     * Converts an Elbonian numeral to its Arabic value without creating a converter. Only the exact
+     * numerals returned by {@link #toElbonian(int)} are accepted, so there can be no leading or trailing
+     * spaces.
+     *
+     * @param elbonian An Elbonian numeral
+     * @return The arabic value of the numeral
+     * @throws MalformedNumberException Thrown if the string is not a valid Elbonian numeral
+     */
+    public static int toArabic(CharSequence elbonian) throws MalformedNumberException {
+        if (elbonian == null) {
+            throw new MalformedNumberException("Null string");
+        }
+        int value = ElbonianTables.lookup(elbonian);
+        if (value == ElbonianTables.NOT_FOUND) {
+            throw new MalformedNumberException("invalid");
+        }
+        return value;
     }
 
 }
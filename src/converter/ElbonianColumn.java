@@ -0,0 +1,153 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A column of Elbonian numerals stored back to back as ASCII bytes in one buffer, with an offsets array
+ * marking where each numeral starts, in the layout Arrow uses for variable width strings. Numeral i runs
+ * from offset(i) to offset(i + 1).
+ *
+ * {@link #encode(int[])} writes a whole column into a single direct buffer sized for the longest
+ * numeral, so exporting millions of values creates no objects per value and keeps the numerals off the
+ * Java heap. {@link #decode()} reads a column back into arabic values with the same table lookup.
+ */
+public final class ElbonianColumn {
+    private final ByteBuffer data;
+    private final int[] offsets;
+
+    /**
+     * Wraps numerals that are already laid out as a column, for example one read back from a file.
+     * Neither argument is copied.
+     *
+     * @param data The bytes of every numeral, indexed from zero
+     * @param offsets The start of each numeral, followed by the end of the last one
+     */
+    public ElbonianColumn(ByteBuffer data, int[] offsets) {
+        if (offsets.length == 0) {
+            throw new IllegalArgumentException("Offsets must hold at least the end of the column");
+        }
+        for (int i = 0; i + 1 < offsets.length; i++) {
+            if (offsets[i] < 0 || offsets[i] > offsets[i + 1]) {
+                throw new IllegalArgumentException("Offsets are not in order at " + i);
+            }
+        }
+        if (offsets[offsets.length - 1] > data.limit()) {
+            throw new IllegalArgumentException("Offsets run past the end of the data");
+        }
+        this.data = data;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Encodes every value in an array.
+     *
+     * @param values Arabic values
+     * @return The column of numerals
+     * @throws ValueOutOfBoundsException Thrown if a value is not between -9999 and 9999
+     */
+    public static ElbonianColumn encode(int[] values) throws ValueOutOfBoundsException {
+        return encode(values, 0, values.length);
+    }
+
+    /**
+     * Encodes part of an array. Numeral i of the column holds values[from + i].
+     *
+     * @param values Arabic values
+     * @param from The index of the first value to encode
+     * @param to The index after the last value to encode
+     * @return The column of numerals
+     * @throws ValueOutOfBoundsException Thrown if a value is not between -9999 and 9999
+     */
+    public static ElbonianColumn encode(int[] values, int from, int to) throws ValueOutOfBoundsException {
+        if (from < 0 || from > to || to > values.length) {
+            throw new IndexOutOfBoundsException("Range " + from + " to " + to + " of " + values.length);
+        }
+        for (int index = from; index < to; index++) {
+            if (!ElbonianTables.inRange(values[index])) {
+                throw new ValueOutOfBoundsException(ConversionStatus.message(ConversionStatus.OUT_OF_BOUNDS));
+            }
+        }
+        int[] offsets = new int[to - from + 1];
+        ByteBuffer data = ByteBuffer.allocateDirect((to - from) * ElbonianTables.MAX_LENGTH);
+        for (int index = from; index < to; index++) {
+            data.put(ElbonianTables.bytes(values[index]));
+            offsets[index - from + 1] = data.position();
+        }
+        data.flip();
+        return new ElbonianColumn(data, offsets);
+    }
+
+    /**
+     * @return The number of numerals in the column
+     */
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Returns where a numeral starts. offset(size()) is the end of the last numeral.
+     *
+     * @param index The index of a numeral, or size()
+     * @return The index of its first byte in the data
+     */
+    public int offset(int index) {
+        return offsets[index];
+    }
+
+    /**
+     * Returns a read only view of the bytes of the column. Numerals are found through {@link #offset(int)}.
+     *
+     * @return The data, from index zero up to the end of the last numeral
+     */
+    public ByteBuffer data() {
+        ByteBuffer view = data.asReadOnlyBuffer();
+        view.clear().limit(offsets[offsets.length - 1]);
+        return view;
+    }
+
+    /**
+     * Returns one numeral as a string.
+     *
+     * @param index The index of a numeral
+     * @return The numeral
+     */
+    public String get(int index) {
+        char[] chars = new char[offsets[index + 1] - offsets[index]];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) (data.get(offsets[index] + i) & 0xFF);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Reads one numeral. Only canonical numerals, as written by {@link #encode(int[])}, are accepted.
+     *
+     * @param index The index of a numeral
+     * @return The arabic value
+     * @throws MalformedNumberException Thrown if the bytes are not a canonical Elbonian numeral
+     */
+    public int valueAt(int index) throws MalformedNumberException {
+        int value = ElbonianTables.lookup(data, offsets[index], offsets[index + 1]);
+        if (value == ElbonianTables.NOT_FOUND) {
+            throw new MalformedNumberException(ConversionStatus.message(ConversionStatus.INVALID));
+        }
+        return value;
+    }
+
+    /**
+     * Reads every numeral in the column.
+     *
+     * @return The arabic values, in column order
+     * @throws MalformedNumberException Thrown if a numeral is not a canonical Elbonian numeral
+     */
+    public int[] decode() throws MalformedNumberException {
+        int[] values = new int[size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = valueAt(index);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,159 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.Comparator;
+
+/**
+ * Ordering and sorting of Elbonian numerals without converting them.
+ *
+ * A canonical numeral lists its symbols from N down to I, and each decimal digit is written as its run
+ * of larger symbols followed by its run of smaller ones. Comparing two numerals symbol by symbol, the
+ * first place they differ decides the order: the numeral with the larger symbol there has more of that
+ * symbol and the same count of every larger one, so it has the larger value. A numeral that runs out
+ * first is the smaller one.
+ *
+ * The sorts are LSD radix sorts keyed on the value plus 9999, which is 0 to 19998 and fits in two
+ * bytes. Each sort takes two passes over the data, so it runs in linear time.
+ */
+public final class ElbonianOrder {
+
+    /**
+     * Orders numerals by their value. Only numerals written the way
+     * {@link ElbonianArabicConverter#toElbonian(int)} writes them can be compared. Nothing is allocated
+     * and the numerals are not checked, so other strings are ordered in no particular way.
+     */
+    public static final Comparator<CharSequence> COMPARATOR = new Comparator<CharSequence>() {
+        @Override
+        public int compare(CharSequence a, CharSequence b) {
+            return ElbonianOrder.compare(a, b);
+        }
+    };
+
+    private static final int RADIX = 256;
+    private static final int OFFSET = -ElbonianTables.MIN_VALUE;
+
+    private ElbonianOrder() {
+    }
+
+    /**
+     * Compares two numerals by their value, as {@link #COMPARATOR} does.
+     *
+     * @param a A canonical numeral
+     * @param b A canonical numeral
+     * @return A negative number, zero or a positive number as a is less than, equal to or greater than b
+     */
+    public static int compare(CharSequence a, CharSequence b) {
+        int signA = sign(a);
+        int signB = sign(b);
+        if (signA != signB) {
+            return signA < signB ? -1 : 1;
+        }
+        if (signA == 0) {
+            return 0;
+        }
+        int magnitude = compareMagnitudes(a, signA < 0 ? 1 : 0, b, signB < 0 ? 1 : 0);
+        return signA < 0 ? -magnitude : magnitude;
+    }
+
+    private static int sign(CharSequence numeral) {
+        if (numeral.length() == 1 && numeral.charAt(0) == 'Z') {
+            return 0;
+        }
+        return numeral.length() > 0 && numeral.charAt(0) == '-' ? -1 : 1;
+    }
+
+    private static int compareMagnitudes(CharSequence a, int i, CharSequence b, int j) {
+        int lengthA = a.length();
+        int lengthB = b.length();
+        for (; i < lengthA && j < lengthB; i++, j++) {
+            int rankA = ElbonianTables.rank(a.charAt(i));
+            int rankB = ElbonianTables.rank(b.charAt(j));
+            if (rankA != rankB) {
+                // A lower rank is a larger symbol
+                return rankA < rankB ? 1 : -1;
+            }
+        }
+        if (i < lengthA) {
+            return 1;
+        }
+        return j < lengthB ? -1 : 0;
+    }
+
+    /**
+     * Sorts arabic values that are all between -9999 and 9999 into ascending order.
+     *
+     * @param values The values to sort
+     * @throws ValueOutOfBoundsException Thrown if a value is not between -9999 and 9999. The array is not
+     * changed.
+     */
+    public static void sort(int[] values) throws ValueOutOfBoundsException {
+        for (int value : values) {
+            if (!ElbonianTables.inRange(value)) {
+                throw new ValueOutOfBoundsException(ConversionStatus.message(ConversionStatus.OUT_OF_BOUNDS));
+            }
+        }
+        int[] low = new int[RADIX + 1];
+        int[] high = new int[RADIX + 1];
+        for (int value : values) {
+            int key = value + OFFSET;
+            low[(key & 0xFF) + 1]++;
+            high[(key >>> 8) + 1]++;
+        }
+        prefixSums(low);
+        prefixSums(high);
+        int[] scratch = new int[values.length];
+        for (int value : values) {
+            scratch[low[(value + OFFSET) & 0xFF]++] = value;
+        }
+        for (int value : scratch) {
+            values[high[(value + OFFSET) >>> 8]++] = value;
+        }
+    }
+
+    /**
+     * Sorts canonical numerals into ascending order of value. The sort is stable, so equal numerals
+     * keep their order.
+     *
+     * @param numerals The numerals to sort
+     * @throws MalformedNumberException Thrown if an element is not a canonical Elbonian numeral. The
+     * array is not changed.
+     */
+    public static void sort(String[] numerals) throws MalformedNumberException {
+        int[] keys = new int[numerals.length];
+        int[] low = new int[RADIX + 1];
+        int[] high = new int[RADIX + 1];
+        for (int i = 0; i < numerals.length; i++) {
+            int value = numerals[i] == null ? ElbonianTables.NOT_FOUND : ElbonianTables.lookup(numerals[i]);
+            if (value == ElbonianTables.NOT_FOUND) {
+                throw new MalformedNumberException(ConversionStatus.message(ConversionStatus.INVALID));
+            }
+            int key = value + OFFSET;
+            keys[i] = key;
+            low[(key & 0xFF) + 1]++;
+            high[(key >>> 8) + 1]++;
+        }
+        prefixSums(low);
+        prefixSums(high);
+        int[] scratchKeys = new int[numerals.length];
+        String[] scratch = new String[numerals.length];
+        for (int i = 0; i < numerals.length; i++) {
+            int slot = low[keys[i] & 0xFF]++;
+            scratchKeys[slot] = keys[i];
+            scratch[slot] = numerals[i];
+        }
+        for (int i = 0; i < scratch.length; i++) {
+            numerals[high[scratchKeys[i] >>> 8]++] = scratch[i];
+        }
+    }
+
+    /**
+     * Turns bucket counts, stored one place to the right, into the index each bucket starts at.
+     */
+    private static void prefixSums(int[] counts) {
+        for (int bucket = 1; bucket < counts.length; bucket++) {
+            counts[bucket] += counts[bucket - 1];
+        }
+    }
+}
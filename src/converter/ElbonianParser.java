@@ -0,0 +1,305 @@
+package converter;
+
+/**
+ * A single pass parser for numbers in either the Arabic or the Elbonian form. It classifies, validates
+ * and evaluates the input one character at a time without creating any objects, and rejects exactly the
+ * strings that the converter has always rejected, with the same reason. Numerals are validated by the
+ * DFA of a {@link NumeralSystem}, which is {@link NumeralSystem#ELBONIAN} unless another is given.
+ *
+ * The whole parse state is packed into a long so that it can be kept in a local variable, or saved
+ * between calls when the characters arrive in pieces. A parse starts from {@link #START}, feeds every
+ * character to {@link #step(long, int)} and ends with {@link #finish(long)}, which returns either the
+ * value or an error code that can be checked with {@link #isError(int)}.
+ */
+final class ElbonianParser {
+    static final long START = 0L;
+
+    // Parse modes, kept in bits 32-34 of the state
+    private static final int MODE_START = 0;
+    private static final int MODE_MINUS = 1;
+    private static final int MODE_PLUS = 2;
+    private static final int MODE_ARABIC = 3;
+    private static final int MODE_ELBONIAN = 4;
+    private static final int MODE_ZERO = 5;
+    private static final int MODE_INVALID = 6;
+
+    // Bits 0-31 hold the magnitude read so far. Arabic digits stop counting just past the int range.
+    private static final long MAGNITUDE_MASK = 0xFFFFFFFFL;
+    private static final long MAGNITUDE_CAP = (1L << 31) + 1;
+    private static final int MODE_SHIFT = 32;
+    private static final long MODE_MASK = 7L << MODE_SHIFT;
+    private static final long NEGATIVE = 1L << 35;
+    // Whitespace has been seen after the number started. It only counts if more characters follow.
+    private static final long WHITESPACE_PENDING = 1L << 36;
+    private static final long SPACE_PENDING = 1L << 37;
+    private static final long SPACE_FOUND = 1L << 38;
+    // The state of the numeral system's validation DFA
+    private static final int DFA_SHIFT = 39;
+    private static final long DFA_MASK = (long) (NumeralSystem.MAX_STATES - 1) << DFA_SHIFT;
+    // The first rule broken, ordered by where the old validation loop would have noticed it
+    private static final int ERROR_KEY_SHIFT = 50;
+    private static final long ERROR_KEY_MASK = 31L << ERROR_KEY_SHIFT;
+    private static final int ERROR_STATUS_SHIFT = 55;
+    private static final long ERROR_STATUS_MASK = 15L << ERROR_STATUS_SHIFT;
+
+    // Results below this are error codes. Every status fits in the five bits above Integer.MIN_VALUE.
+    private static final int ERROR_LIMIT = Integer.MIN_VALUE + 32;
+
+    private ElbonianParser() {
+    }
+
+    /**
+     * Parses a whole string.
+     *
+     * @param number The string to parse, which may be null
+     * @return The value, or an error code if the string is not a valid number
+     */
+    static int parse(CharSequence number) {
+        return parse(NumeralSystem.ELBONIAN, number);
+    }
+
+    /**
+     * Parses a whole string with the numerals of the given system.
+     *
+     * @param system The numeral system
+     * @param number The string to parse, which may be null
+     * @return The value, or an error code if the string is not a valid number
+     */
+    static int parse(NumeralSystem system, CharSequence number) {
+        if (number == null) {
+            return error(ConversionStatus.NULL);
+        }
+        long state = START;
+        for (int index = 0; index < number.length(); index++) {
+            state = step(system, state, number.charAt(index));
+        }
+        return finish(system, state);
+    }
+
+    /**
+     * Parses part of a string.
+     *
+     * @param number The characters to parse
+     * @param start The index of the first character
+     * @param end The index after the last character
+     * @return The value, or an error code if the characters are not a valid number
+     */
+    static int parse(CharSequence number, int start, int end) {
+        long state = START;
+        for (int index = start; index < end; index++) {
+            state = step(NumeralSystem.ELBONIAN, state, number.charAt(index));
+        }
+        return finish(NumeralSystem.ELBONIAN, state);
+    }
+
+    /**
+     * Feeds one character to a parse.
+     *
+     * @param state The state of the parse so far
+     * @param ch The next character
+     * @return The new state of the parse
+     */
+    static long step(long state, int ch) {
+        return step(NumeralSystem.ELBONIAN, state, ch);
+    }
+
+    /**
+     * Feeds one character to a parse with the numerals of the given system.
+     *
+     * @param system The numeral system
+     * @param state The state of the parse so far
+     * @param ch The next character
+     * @return The new state of the parse
+     */
+    static long step(NumeralSystem system, long state, int ch) {
+        if ((state & SPACE_FOUND) != 0) {
+            return state;
+        }
+        int mode = mode(state);
+        if (ch <= ' ') {
+            if (mode == MODE_START) {
+                return state;
+            }
+            return ch == ' ' ? state | WHITESPACE_PENDING | SPACE_PENDING : state | WHITESPACE_PENDING;
+        }
+        if ((state & WHITESPACE_PENDING) != 0) {
+            if ((state & SPACE_PENDING) != 0) {
+                return state | SPACE_FOUND;
+            }
+            // Any other whitespace inside the number makes it invalid, but a later space still counts
+            return withMode(state & ~WHITESPACE_PENDING, MODE_INVALID);
+        }
+        switch (mode) {
+            case MODE_START:
+                if (ch == '-') {
+                    return withMode(state | NEGATIVE, MODE_MINUS);
+                }
+                if (ch == '+') {
+                    return withMode(state, MODE_PLUS);
+                }
+                if (ch == system.zero()) {
+                    return withMode(state, MODE_ZERO);
+                }
+                return digitOrSymbol(system, state, ch);
+            case MODE_MINUS:
+                return digitOrSymbol(system, state, ch);
+            case MODE_PLUS:
+            case MODE_ARABIC:
+                return digit(state, ch);
+            case MODE_ELBONIAN:
+                return symbol(system, state, system.rank(ch));
+            default:
+                return withMode(state, MODE_INVALID);
+        }
+    }
+
+    /**
+     * Ends a parse.
+     *
+     * @param state The state after the last character
+     * @return The value, or an error code if the characters are not a valid number
+     */
+    static int finish(long state) {
+        return finish(NumeralSystem.ELBONIAN, state);
+    }
+
+    /**
+     * Ends a parse with the numerals of the given system.
+     *
+     * @param system The numeral system
+     * @param state The state after the last character
+     * @return The value, or an error code if the characters are not a valid number
+     */
+    static int finish(NumeralSystem system, long state) {
+        if ((state & SPACE_FOUND) != 0) {
+            return error(ConversionStatus.SPACE);
+        }
+        long magnitude = state & MAGNITUDE_MASK;
+        boolean negative = (state & NEGATIVE) != 0;
+        switch (mode(state)) {
+            case MODE_START:
+                return error(ConversionStatus.EMPTY);
+            case MODE_MINUS:
+                return error(ConversionStatus.LONE_SIGN);
+            case MODE_ZERO:
+                return 0;
+            case MODE_ARABIC:
+                // Integer.parseInt fails past the int range, which the converter reports as malformed
+                if (magnitude > (negative ? 1L << 31 : Integer.MAX_VALUE)) {
+                    return error(ConversionStatus.INVALID);
+                }
+                if (magnitude > system.getMaxValue()) {
+                    return error(ConversionStatus.OUT_OF_BOUNDS);
+                }
+                return negative ? (int) -magnitude : (int) magnitude;
+            case MODE_ELBONIAN:
+                int status = (int) ((state & ERROR_STATUS_MASK) >>> ERROR_STATUS_SHIFT);
+                if (status != ConversionStatus.OK) {
+                    return error((byte) status);
+                }
+                return negative ? (int) -magnitude : (int) magnitude;
+            default:
+                return error(ConversionStatus.INVALID);
+        }
+    }
+
+    /**
+     * Returns true if the state belongs to an Arabic number. Only meaningful for states that finish
+     * without an error.
+     *
+     * @param state The state of a parse
+     * @return True if the characters were Arabic digits
+     */
+    static boolean isArabic(long state) {
+        return mode(state) == MODE_ARABIC;
+    }
+
+    /**
+     * Returns true if the result of a parse is an error code rather than a value.
+     *
+     * @param result The result of a parse
+     * @return True if the result is an error code
+     */
+    static boolean isError(int result) {
+        return result < ERROR_LIMIT;
+    }
+
+    /**
+     * Returns the status of a parse result.
+     *
+     * @param result The result of a parse
+     * @return The status code, which is OK if the result is a value
+     */
+    static byte status(int result) {
+        return isError(result) ? (byte) (result - Integer.MIN_VALUE) : ConversionStatus.OK;
+    }
+
+    private static int error(byte status) {
+        return Integer.MIN_VALUE + status;
+    }
+
+    private static int mode(long state) {
+        return (int) ((state & MODE_MASK) >>> MODE_SHIFT);
+    }
+
+    private static long withMode(long state, int mode) {
+        return (state & ~MODE_MASK) | (long) mode << MODE_SHIFT;
+    }
+
+    private static long digitOrSymbol(NumeralSystem system, long state, int ch) {
+        int rank = system.rank(ch);
+        if (rank >= 0) {
+            return symbol(system, withMode(state, MODE_ELBONIAN), rank);
+        }
+        return digit(state, ch);
+    }
+
+    private static long digit(long state, int ch) {
+        int digit;
+        if (ch >= '0' && ch <= '9') {
+            digit = ch - '0';
+        } else if (ch >= 0x80) {
+            // Integer.parseInt also accepts digits from other scripts
+            digit = Character.digit((char) ch, 10);
+        } else {
+            digit = -1;
+        }
+        if (digit < 0) {
+            return withMode(state, MODE_INVALID);
+        }
+        long magnitude = Math.min((state & MAGNITUDE_MASK) * 10 + digit, MAGNITUDE_CAP);
+        return withMode(state & ~MAGNITUDE_MASK, MODE_ARABIC) | magnitude;
+    }
+
+    private static long symbol(NumeralSystem system, long state, int rank) {
+        if (rank < 0) {
+            return withMode(state, MODE_INVALID);
+        }
+        int transition = system.transition((int) ((state & DFA_MASK) >>> DFA_SHIFT), rank);
+        if (transition == NumeralSystem.NO_TRANSITION) {
+            return withMode(state, MODE_INVALID);
+        }
+        state = (state & ~DFA_MASK) | (long) NumeralSystem.nextState(transition) << DFA_SHIFT;
+        int key = NumeralSystem.errorKey(transition);
+        if (key >= 0) {
+            state = broken(state, key, NumeralSystem.errorStatus(transition));
+        }
+        if ((state & ERROR_STATUS_MASK) == 0) {
+            state += system.weight(rank);
+        }
+        return state;
+    }
+
+    /**
+     * Records a broken rule unless one that would have been noticed earlier is already recorded.
+     */
+    private static long broken(long state, int key, byte status) {
+        long recorded = (state & ERROR_KEY_MASK) >>> ERROR_KEY_SHIFT;
+        if (recorded != 0 && recorded <= key + 1) {
+            return state;
+        }
+        return (state & ~(ERROR_KEY_MASK | ERROR_STATUS_MASK))
+                | (long) (key + 1) << ERROR_KEY_SHIFT
+                | (long) status << ERROR_STATUS_SHIFT;
+    }
+}
@@ -0,0 +1,130 @@
+package converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An incremental parser for a stream of delimited Arabic or Elbonian numbers, such as numbers read from
+ * a socket. Bytes are pushed in chunks of any size, and a number may be split across chunks. Each
+ * number is reported to a {@link Listener} as soon as its delimiter arrives, with the same accept and
+ * reject rules as the {@link ElbonianArabicConverter} constructor.
+ *
+ * The parse state between chunks is a single long, so no objects are created per number. Bytes are read
+ * as ASCII. A parser is not thread safe.
+ */
+public final class ElbonianPushParser {
+
+    /**
+     * Receives the numbers found by a push parser.
+     */
+    public interface Listener {
+
+        /**
+         * Called for every valid number.
+         *
+         * @param value The arabic value of the number
+         * @param arabic True if the number was written in Arabic digits, false if it was Elbonian
+         */
+        void onValue(int value, boolean arabic);
+
+        /**
+         * Called for every number that could not be read.
+         *
+         * @param status The {@link ConversionStatus} explaining why
+         */
+        void onError(byte status);
+    }
+
+    private final Listener listener;
+    private final byte delimiter;
+    private long state = ElbonianParser.START;
+    private boolean started;
+
+    /**
+     * Creates a parser for numbers separated by newlines.
+     *
+     * @param listener Receives the numbers
+     */
+    public ElbonianPushParser(Listener listener) {
+        this(listener, (byte) '\n');
+    }
+
+    /**
+     * Creates a parser for numbers separated by the given byte.
+     *
+     * @param listener Receives the numbers
+     * @param delimiter The byte that ends each number
+     */
+    public ElbonianPushParser(Listener listener, byte delimiter) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Null listener");
+        }
+        this.listener = listener;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Parses all the remaining bytes of a buffer, which is left with no bytes remaining.
+     *
+     * @param chunk The next bytes of the stream
+     */
+    public void feed(ByteBuffer chunk) {
+        if (chunk.hasArray()) {
+            feed(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+        } else {
+            for (int index = chunk.position(); index < chunk.limit(); index++) {
+                accept(chunk.get(index));
+            }
+        }
+        chunk.position(chunk.limit());
+    }
+
+    /**
+     * Parses part of an array.
+     *
+     * @param bytes The next bytes of the stream
+     * @param offset The index of the first byte
+     * @param length The number of bytes
+     */
+    public void feed(byte[] bytes, int offset, int length) {
+        for (int index = offset; index < offset + length; index++) {
+            accept(bytes[index]);
+        }
+    }
+
+    /**
+     * Ends the stream. A last number that has no delimiter after it is reported now.
+     */
+    public void finish() {
+        if (started) {
+            emit();
+        }
+    }
+
+    /**
+     * Throws away a partly read number so that the parser can start on a new stream.
+     */
+    public void reset() {
+        state = ElbonianParser.START;
+        started = false;
+    }
+
+    private void accept(byte b) {
+        if (b == delimiter) {
+            emit();
+        } else {
+            state = ElbonianParser.step(state, b & 0xFF);
+            started = true;
+        }
+    }
+
+    private void emit() {
+        int result = ElbonianParser.finish(state);
+        boolean arabic = ElbonianParser.isArabic(state);
+        reset();
+        if (ElbonianParser.isError(result)) {
+            listener.onError(ElbonianParser.status(result));
+        } else {
+            listener.onValue(result, arabic);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package converter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A prebuilt file holding the canonical numeral of every value from -9999 to 9999, read by memory
+ * mapping it. Mapping the file costs no time at startup and builds no objects, and every process that
+ * maps the same file shares one copy of it in the page cache.
+ *
+ * The file starts with a 32 byte header: the magic number, the format version, the lowest value, the
+ * highest value and the slot size, each a big endian int, followed by zero padding. After the header
+ * come fixed size slots, one per value from the lowest to the highest. A slot holds the length of the
+ * numeral in its first byte and the ASCII numeral after it, padded with zeros. Since the slots are all
+ * the same size, the numeral of a value is found by arithmetic with no index.
+ */
+public final class ElbonianTableFile {
+    static final int MAGIC = 0x454C4254;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int SLOT_SIZE = 1 + ElbonianTables.MAX_LENGTH;
+
+    private static final int SIZE = HEADER_SIZE
+            + (ElbonianTables.MAX_VALUE - ElbonianTables.MIN_VALUE + 1) * SLOT_SIZE;
+
+    private final ByteBuffer table;
+
+    private ElbonianTableFile(ByteBuffer table) {
+        this.table = table;
+    }
+
+    /**
+     * Writes a table file, replacing any file at the path.
+     *
+     * @param path The file to write
+     * @throws IOException Thrown if the file cannot be written
+     */
+    public static void write(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE).order(ByteOrder.BIG_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(ElbonianTables.MIN_VALUE).putInt(ElbonianTables.MAX_VALUE)
+                .putInt(SLOT_SIZE);
+        for (int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+            byte[] numeral = ElbonianTables.bytes(value);
+            buffer.position(slot(value));
+            buffer.put((byte) numeral.length).put(numeral);
+        }
+        buffer.clear();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Maps a table file. The header is checked, but the numerals are not, so the file should only ever
+     * be made by {@link #write(Path)}.
+     *
+     * @param path The file to map
+     * @return The mapped table
+     * @throws IOException Thrown if the file cannot be read or is not a table file of this version
+     */
+    public static ElbonianTableFile map(Path path) throws IOException {
+        ByteBuffer table;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != SIZE) {
+                throw new IOException("Not an Elbonian table file: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            table = channel.map(FileChannel.MapMode.READ_ONLY, 0, SIZE);
+        }
+        if (table.getInt(0) != MAGIC || table.getInt(4) != VERSION
+                || table.getInt(8) != ElbonianTables.MIN_VALUE || table.getInt(12) != ElbonianTables.MAX_VALUE
+                || table.getInt(16) != SLOT_SIZE) {
+            throw new IOException("Not an Elbonian table file: " + path);
+        }
+        return new ElbonianTableFile(table);
+    }
+
+    /**
+     * Returns the length of the numeral for a value.
+     *
+     * @param value A value between -9999 and 9999
+     * @return The number of characters in the numeral
+     */
+    public int length(int value) {
+        return table.get(slot(value));
+    }
+
+    /**
+     * Copies the numeral for a value into an array as ASCII bytes. At most 17 bytes are written.
+     *
+     * @param value A value between -9999 and 9999
+     * @param dst The array to write to
+     * @param off The index to write the first byte at
+     * @return The number of bytes written
+     */
+    public int copy(int value, byte[] dst, int off) {
+        int slot = slot(value);
+        int length = table.get(slot);
+        for (int index = 0; index < length; index++) {
+            dst[off + index] = table.get(slot + 1 + index);
+        }
+        return length;
+    }
+
+    private static int slot(int value) {
+        if (!ElbonianTables.inRange(value)) {
+            throw new IndexOutOfBoundsException("Value " + value + " is not in the table");
+        }
+        return HEADER_SIZE + (value - ElbonianTables.MIN_VALUE) * SLOT_SIZE;
+    }
+
+    /**
+     * Writes a table file from the command line.
+     *
+     * @param args The file to write
+     * @throws IOException Thrown if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: ElbonianTableFile <output>");
+            System.exit(2);
+        }
+        write(Paths.get(args[0]));
+    }
+}
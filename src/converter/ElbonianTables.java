@@ -0,0 +1,230 @@
+package converter;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Precomputed lookup tables for the whole Elbonian number system. The system only covers the values
+ * -9999 to 9999, so every canonical numeral is generated once and both directions of a conversion
+ * become a single array lookup. Each direction is held in its own holder class so the tables are only
+ * built the first time they are needed.
+ */
+final class ElbonianTables {
+    static final int MIN_VALUE = -9999;
+    static final int MAX_VALUE = 9999;
+
+    // Length of the longest numeral, -NNMMDDCCLLXXVVII
+    static final int MAX_LENGTH = 17;
+
+    // Returned by lookup() when the characters are not a canonical Elbonian numeral
+    static final int NOT_FOUND = Integer.MIN_VALUE;
+
+    // The symbols in the order they must appear in a numeral, with their values
+    static final char[] SYMBOLS = NumeralSystem.ELBONIAN.symbols();
+    static final int[] WEIGHTS = NumeralSystem.ELBONIAN.weights();
+
+    // Position of each ASCII character in SYMBOLS, or -1 if it is not a symbol
+    private static final byte[] RANK = new byte[128];
+
+    static {
+        Arrays.fill(RANK, (byte) -1);
+        for (int r = 0; r < SYMBOLS.length; r++) {
+            RANK[SYMBOLS[r]] = (byte) r;
+        }
+    }
+
+    private ElbonianTables() {
+    }
+
+    /**
+     * Value to numeral table. Index 0 holds -9999 and index 19998 holds 9999.
+     */
+    private static final class Forward {
+        static final char[][] CHARS = new char[MAX_VALUE - MIN_VALUE + 1][];
+        static final String[] STRINGS = new String[CHARS.length];
+        static final byte[][] BYTES = new byte[CHARS.length][];
+
+        static {
+            char[] buffer = new char[MAX_LENGTH];
+            for (int value = MIN_VALUE; value <= MAX_VALUE; value++) {
+                int length = 0;
+                if (value < 0) {
+                    buffer[length++] = '-';
+                }
+                int remaining = Math.abs(value);
+                if (remaining == 0) {
+                    buffer[length++] = 'Z';
+                }
+                for (int r = 0; r < SYMBOLS.length; r++) {
+                    while (remaining >= WEIGHTS[r]) {
+                        buffer[length++] = SYMBOLS[r];
+                        remaining -= WEIGHTS[r];
+                    }
+                }
+                char[] numeral = Arrays.copyOf(buffer, length);
+                CHARS[value - MIN_VALUE] = numeral;
+                STRINGS[value - MIN_VALUE] = new String(numeral);
+                byte[] ascii = new byte[length];
+                for (int index = 0; index < length; index++) {
+                    ascii[index] = (byte) numeral[index];
+                }
+                BYTES[value - MIN_VALUE] = ascii;
+            }
+        }
+    }
+
+    /**
+     * Numeral to value table. A numeral is reduced to a 16 bit key holding the run length of each
+     * symbol in two bits (N in the highest bits, I in the lowest). Keys that do not belong to a
+     * canonical numeral map to -1.
+     */
+    private static final class Reverse {
+        static final short[] VALUE_BY_KEY = new short[1 << 16];
+
+        static {
+            Arrays.fill(VALUE_BY_KEY, (short) -1);
+            for (int value = 1; value <= MAX_VALUE; value++) {
+                VALUE_BY_KEY[key(Forward.CHARS[value - MIN_VALUE])] = (short) value;
+            }
+        }
+
+        private static int key(char[] numeral) {
+            int key = 0;
+            for (char symbol : numeral) {
+                key += 1 << (2 * (SYMBOLS.length - 1 - RANK[symbol]));
+            }
+            return key;
+        }
+    }
+
+    /**
+     * Returns the position of a character in the symbol order.
+     *
+     * @param ch A character
+     * @return The position of the symbol, or -1 if the character is not an Elbonian symbol
+     */
+    static int rank(int ch) {
+        return ch >= 0 && ch < 128 ? RANK[ch] : -1;
+    }
+
+    /**
+     * Returns true if the value can be written as an Elbonian numeral.
+     *
+     * @param value An arabic value
+     * @return True if the value is between -9999 and 9999
+     */
+    static boolean inRange(int value) {
+        return value >= MIN_VALUE && value <= MAX_VALUE;
+    }
+
+    /**
+     * Returns the shared canonical numeral for a value. The array must not be modified.
+     *
+     * @param value A value between -9999 and 9999
+     * @return The numeral characters
+     */
+    static char[] chars(int value) {
+        return Forward.CHARS[value - MIN_VALUE];
+    }
+
+    /**
+     * Returns the shared canonical numeral for a value as ASCII bytes. The array must not be modified.
+     *
+     * @param value A value between -9999 and 9999
+     * @return The numeral bytes
+     */
+    static byte[] bytes(int value) {
+        return Forward.BYTES[value - MIN_VALUE];
+    }
+
+    /**
+     * Returns the canonical numeral for a value.
+     *
+     * @param value A value between -9999 and 9999
+     * @return The numeral
+     */
+    static String string(int value) {
+        return Forward.STRINGS[value - MIN_VALUE];
+    }
+
+    /**
+     * Looks up the value of a canonical Elbonian numeral. Only the exact form produced by
+     * {@link #string(int)} is found; there is no trimming and Arabic digits are not accepted.
+     *
+     * @param numeral The characters of the numeral
+     * @return The value, or {@link #NOT_FOUND} if it is not a canonical numeral
+     */
+    static int lookup(CharSequence numeral) {
+        int length = numeral.length();
+        int start = 0;
+        boolean negative = false;
+        if (length > 0 && numeral.charAt(0) == '-') {
+            negative = true;
+            start = 1;
+        }
+        if (length - start == 1 && numeral.charAt(start) == 'Z') {
+            return negative ? NOT_FOUND : 0;
+        }
+        int key = 0;
+        int previous = -1;
+        int run = 0;
+        for (int index = start; index < length; index++) {
+            int rank = rank(numeral.charAt(index));
+            if (rank < 0 || rank < previous) {
+                return NOT_FOUND;
+            }
+            run = rank == previous ? run + 1 : 1;
+            if (run > 3) {
+                return NOT_FOUND;
+            }
+            key += 1 << (2 * (SYMBOLS.length - 1 - rank));
+            previous = rank;
+        }
+        return value(key, negative);
+    }
+
+    /**
+     * Looks up the value of a canonical Elbonian numeral stored as ASCII bytes, with the same rules as
+     * {@link #lookup(CharSequence)}. The indexes are absolute and the position of the buffer is not used
+     * or changed.
+     *
+     * @param bytes The buffer holding the numeral
+     * @param from The index of the first byte of the numeral
+     * @param to The index after the last byte of the numeral
+     * @return The value, or {@link #NOT_FOUND} if it is not a canonical numeral
+     */
+    static int lookup(ByteBuffer bytes, int from, int to) {
+        boolean negative = false;
+        if (from < to && bytes.get(from) == '-') {
+            negative = true;
+            from++;
+        }
+        if (to - from == 1 && bytes.get(from) == 'Z') {
+            return negative ? NOT_FOUND : 0;
+        }
+        int key = 0;
+        int previous = -1;
+        int run = 0;
+        for (int index = from; index < to; index++) {
+            int rank = rank(bytes.get(index));
+            if (rank < 0 || rank < previous) {
+                return NOT_FOUND;
+            }
+            run = rank == previous ? run + 1 : 1;
+            if (run > 3) {
+                return NOT_FOUND;
+            }
+            key += 1 << (2 * (SYMBOLS.length - 1 - rank));
+            previous = rank;
+        }
+        return value(key, negative);
+    }
+
+    private static int value(int key, boolean negative) {
+        int value = Reverse.VALUE_BY_KEY[key];
+        if (value < 0) {
+            return NOT_FOUND;
+        }
+        return negative ? -value : value;
+    }
+}
@@ -0,0 +1,140 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+/**
+ * Static helpers for Elbonian numbers stored as a packed short, so that large columns of them can be
+ * kept in a short[] at two bytes each instead of one String per value.
+ *
+ * A numeral is a sign plus the run lengths of eight symbols. Each pair of symbols (N and M, D and C,
+ * L and X, V and I) counts one decimal digit, since a digit d is written as d / 3 of the larger symbol
+ * followed by d % 3 of the smaller one. Four decimal digits and a sign fit in a short exactly when they
+ * are stored as the binary value itself, so the packed form is the value, and the run lengths are read
+ * back from its decimal digits. Shorts outside -9999 to 9999 are not packed values.
+ */
+public final class ElbonianValue {
+    public static final short MIN_VALUE = ElbonianTables.MIN_VALUE;
+    public static final short MAX_VALUE = ElbonianTables.MAX_VALUE;
+    public static final short ZERO = 0;
+
+    // Place value of the decimal digit each symbol belongs to, in symbol order
+    private static final int[] PLACES = {1000, 1000, 100, 100, 10, 10, 1, 1};
+
+    private ElbonianValue() {
+    }
+
+    /**
+     * Packs an arabic value.
+     *
+     * @param value An arabic value
+     * @return The packed value
+     * @throws ValueOutOfBoundsException Thrown if the value is not between -9999 and 9999
+     */
+    public static short valueOf(int value) throws ValueOutOfBoundsException {
+        if (!ElbonianTables.inRange(value)) {
+            throw new ValueOutOfBoundsException(ConversionStatus.message(ConversionStatus.OUT_OF_BOUNDS));
+        }
+        return (short) value;
+    }
+
+    /**
+     * Reads a number in either form, following the same rules as the
+     * {@link ElbonianArabicConverter} constructor.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number
+     * @return The packed value
+     * @throws ValueOutOfBoundsException Thrown if the value is an Arabic integer that cannot be represented
+     * in the Elbonian number system.
+     * @throws MalformedNumberException Thrown if the string is not a valid number
+     */
+    public static short parse(CharSequence number) throws MalformedNumberException, ValueOutOfBoundsException {
+        int result = ElbonianParser.parse(number);
+        ConversionStatus.check(ElbonianParser.status(result));
+        return (short) result;
+    }
+
+    /**
+     * Unpacks a value.
+     *
+     * @param packed A packed value
+     * @return The arabic value
+     */
+    public static int toInt(short packed) {
+        return packed;
+    }
+
+    /**
+     * Returns the Elbonian numeral for a packed value.
+     *
+     * @param packed A packed value
+     * @return The numeral
+     */
+    public static String toString(short packed) {
+        return ElbonianTables.string(packed);
+    }
+
+    /**
+     * Returns how many times a symbol appears in the numeral of a packed value.
+     *
+     * @param packed A packed value
+     * @param symbol One of N, M, D, C, L, X, V, I or Z
+     * @return The run length of the symbol
+     */
+    public static int count(short packed, char symbol) {
+        if (symbol == 'Z') {
+            return packed == 0 ? 1 : 0;
+        }
+        int rank = ElbonianTables.rank(symbol);
+        if (rank < 0) {
+            throw new IllegalArgumentException("Not an Elbonian symbol: " + symbol);
+        }
+        int digit = Math.abs(packed) / PLACES[rank] % 10;
+        return rank % 2 == 0 ? digit / 3 : digit % 3;
+    }
+
+    /**
+     * Adds two packed values.
+     *
+     * @param a A packed value
+     * @param b A packed value
+     * @return The packed sum
+     * @throws ValueOutOfBoundsException Thrown if the sum is not between -9999 and 9999
+     */
+    public static short add(short a, short b) throws ValueOutOfBoundsException {
+        return valueOf(a + b);
+    }
+
+    /**
+     * Subtracts one packed value from another.
+     *
+     * @param a A packed value
+     * @param b The packed value to subtract
+     * @return The packed difference
+     * @throws ValueOutOfBoundsException Thrown if the difference is not between -9999 and 9999
+     */
+    public static short subtract(short a, short b) throws ValueOutOfBoundsException {
+        return valueOf(a - b);
+    }
+
+    /**
+     * Negates a packed value. The range is symmetric, so this cannot go out of bounds.
+     *
+     * @param packed A packed value
+     * @return The packed negation
+     */
+    public static short negate(short packed) {
+        return (short) -packed;
+    }
+
+    /**
+     * Compares two packed values.
+     *
+     * @param a A packed value
+     * @param b A packed value
+     * @return A negative number, zero or a positive number as a is less than, equal to or greater than b
+     */
+    public static int compare(short a, short b) {
+        return a - b;
+    }
+}
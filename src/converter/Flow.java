@@ -0,0 +1,90 @@
+package converter;
+
+/**
+ * The reactive streams interfaces, with the same names and methods as java.util.concurrent.Flow. That
+ * class only exists from Java 9 and this project still targets Java 8, so the interfaces are declared
+ * here. On a newer JDK a JDK Flow stage can be connected with a few lines of forwarding code.
+ */
+public final class Flow {
+
+    private Flow() {
+    }
+
+    /**
+     * A producer of items that are sent to subscribers as they ask for them.
+     *
+     * @param <T> The type of the items
+     */
+    public interface Publisher<T> {
+
+        /**
+         * Adds a subscriber, which is first sent a {@link Subscription} through
+         * {@link Subscriber#onSubscribe(Subscription)}.
+         *
+         * @param subscriber The subscriber
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of items. Its methods are called one at a time and never for more items than it asked
+     * for.
+     *
+     * @param <T> The type of the items
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Called before any other method, with the subscription used to ask for items.
+         *
+         * @param subscription The subscription
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called with the next item.
+         *
+         * @param item The item
+         */
+        void onNext(T item);
+
+        /**
+         * Called when the stream fails. No more methods are called after this one.
+         *
+         * @param throwable The failure
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Called when the stream has no more items. No more methods are called after this one.
+         */
+        void onComplete();
+    }
+
+    /**
+     * The link between one publisher and one subscriber.
+     */
+    public interface Subscription {
+
+        /**
+         * Asks for more items.
+         *
+         * @param n The number of items to add to the demand, which must be positive
+         */
+        void request(long n);
+
+        /**
+         * Asks the publisher to stop sending items.
+         */
+        void cancel();
+    }
+
+    /**
+     * A stage that is both a subscriber and a publisher.
+     *
+     * @param <T> The type of the items it receives
+     * @param <R> The type of the items it sends on
+     */
+    public interface Processor<T, R> extends Subscriber<T>, Publisher<R> {
+    }
+}
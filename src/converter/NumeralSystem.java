@@ -0,0 +1,452 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A description of an additive numeral system in the style of the Elbonian one, compiled into lookup
+ * tables. A system is made of symbols listed in the order they must be written, each with a weight and
+ * the most times it may be repeated, rules that forbid a symbol once another has been repeated a given
+ * number of times, and a symbol for zero. {@link #ELBONIAN} is the system the converter uses, and
+ * regional variants are described the same way with {@link #builder()}.
+ *
+ * When a system is built, every reachable combination of current symbol, repeat count and triggered
+ * rules becomes a state of a validation DFA, and each state and symbol pair gets one precomputed
+ * transition holding the next state and the rule it breaks, if any. Reading a numeral is then a table
+ * lookup per character. Rules are reported in symbol order like the original check: a rule triggered by
+ * an earlier symbol is reported before a rule about a later one, and at the same symbol an exclusion is
+ * reported before a repeat.
+ */
+public final class NumeralSystem {
+
+    /**
+     * The Elbonian system. N, D, L and V may be written three times, and M, C, X and I twice. Three of
+     * N, D, L or V rule out the symbol after it. The original rule check also let three L fall through
+     * to the V rule, so three L rule out I as well, with the message of the V rule.
+     */
+    public static final NumeralSystem ELBONIAN = builder()
+            .symbol('N', 3000, 3)
+            .symbol('M', 1000, 2)
+            .symbol('D', 300, 3)
+            .symbol('C', 100, 2)
+            .symbol('L', 30, 3)
+            .symbol('X', 10, 2)
+            .symbol('V', 3, 3)
+            .symbol('I', 1, 2)
+            .exclusion('N', 3, 'M', ConversionStatus.THREE_N_WITH_M)
+            .exclusion('D', 3, 'C', ConversionStatus.THREE_D_WITH_C)
+            .exclusion('L', 3, 'X', ConversionStatus.THREE_L_WITH_X)
+            .exclusion('V', 3, 'I', ConversionStatus.THREE_V_WITH_I)
+            .exclusion('L', 3, 'I', ConversionStatus.THREE_V_WITH_I)
+            .zero('Z')
+            .build();
+
+    // Limits set by the fields of the packed parse state in ElbonianParser
+    static final int MAX_SYMBOLS = 15;
+    static final int MAX_STATES = 1 << 11;
+    private static final int MAX_REPEATS = 14;
+    private static final int MAX_RULES = 32;
+
+    // Largest value a system may be able to write, so that its numerals fit in a table
+    static final int MAX_TABLE_VALUE = 1 << 16;
+
+    // A transition holds the next state in bits 0-10, the rule key plus one in bits 11-15 and the status
+    // of the broken rule in bits 16-20. A symbol written out of order has no transition.
+    static final int NO_TRANSITION = -1;
+    private static final int KEY_SHIFT = 11;
+    private static final int STATUS_SHIFT = 16;
+
+    private final char[] symbols;
+    private final int[] weights;
+    private final char zero;
+    private final byte[] rank = new byte[128];
+    private final int[] transitions;
+    private final int stateCount;
+    private final int maxValue;
+
+    // The numeral of every value, with index maxValue holding zero, or null if it cannot be written.
+    // Built on the first call to format, since parsing never needs it
+    private volatile String[] numerals;
+
+    private NumeralSystem(Builder builder) {
+        int count = builder.symbols.size();
+        symbols = new char[count];
+        weights = new int[count];
+        int[] repeats = new int[count];
+        Arrays.fill(rank, (byte) -1);
+        for (int r = 0; r < count; r++) {
+            symbols[r] = builder.symbols.get(r);
+            weights[r] = builder.weights.get(r);
+            repeats[r] = builder.repeats.get(r);
+            rank[symbols[r]] = (byte) r;
+        }
+        zero = builder.zero;
+
+        int rules = builder.triggers.size();
+        int[] triggers = new int[rules];
+        int[] counts = new int[rules];
+        int[] forbidden = new int[rules];
+        byte[] statuses = new byte[rules];
+        for (int i = 0; i < rules; i++) {
+            triggers[i] = rank[builder.triggers.get(i)];
+            counts[i] = builder.counts.get(i);
+            forbidden[i] = rank[builder.forbidden.get(i)];
+            statuses[i] = builder.statuses.get(i);
+        }
+
+        // Breadth first walk of the reachable states, starting from the state before any symbol
+        List<Long> states = new ArrayList<Long>();
+        Map<Long, Integer> ids = new HashMap<Long, Integer>();
+        states.add(0L);
+        ids.put(0L, 0);
+        List<int[]> rows = new ArrayList<int[]>();
+        for (int id = 0; id < states.size(); id++) {
+            long state = states.get(id);
+            int previous = (int) (state & 0xF) - 1;
+            int run = (int) (state >>> 4 & 0xF);
+            long triggered = state >>> 8;
+            int[] row = new int[count];
+            for (int r = 0; r < count; r++) {
+                if (r < previous) {
+                    row[r] = NO_TRANSITION;
+                    continue;
+                }
+                int nextRun = r == previous ? Math.min(run + 1, repeats[r] + 1) : 1;
+                long nextTriggered = triggered;
+                for (int i = 0; i < rules; i++) {
+                    if (triggers[i] == r && nextRun >= counts[i]) {
+                        nextTriggered |= 1L << i;
+                    }
+                }
+                int key = Integer.MAX_VALUE;
+                byte status = ConversionStatus.OK;
+                if (nextRun > repeats[r]) {
+                    key = 2 * r + 1;
+                    status = ConversionStatus.RUN_LENGTH;
+                }
+                for (int i = 0; i < rules; i++) {
+                    if (forbidden[i] == r && (nextTriggered & 1L << i) != 0 && 2 * triggers[i] < key) {
+                        key = 2 * triggers[i];
+                        status = statuses[i];
+                    }
+                }
+                long next = (r + 1) | (long) nextRun << 4 | nextTriggered << 8;
+                Integer nextId = ids.get(next);
+                if (nextId == null) {
+                    nextId = states.size();
+                    if (nextId >= MAX_STATES) {
+                        throw new IllegalArgumentException("The numeral system needs more than " + MAX_STATES + " states");
+                    }
+                    states.add(next);
+                    ids.put(next, nextId);
+                }
+                row[r] = nextId;
+                if (status != ConversionStatus.OK) {
+                    row[r] |= (key + 1) << KEY_SHIFT | status << STATUS_SHIFT;
+                }
+            }
+            rows.add(row);
+        }
+        stateCount = states.size();
+        transitions = new int[stateCount * count];
+        for (int id = 0; id < stateCount; id++) {
+            System.arraycopy(rows.get(id), 0, transitions, id * count, count);
+        }
+
+        long largest = largestValue(0, new long[stateCount]);
+        if (largest > MAX_TABLE_VALUE) {
+            throw new IllegalArgumentException("The numeral system can write values larger than " + MAX_TABLE_VALUE);
+        }
+        maxValue = (int) largest;
+    }
+
+    /**
+     * Finds the largest value a valid numeral can add from a state on. Transitions that break no rule
+     * always move to a later symbol or a longer run, so the states form no cycles along them.
+     */
+    private long largestValue(int state, long[] memo) {
+        if (memo[state] != 0) {
+            return memo[state] - 1;
+        }
+        long largest = 0;
+        for (int r = 0; r < symbols.length; r++) {
+            int transition = transition(state, r);
+            if (transition != NO_TRANSITION && errorKey(transition) < 0) {
+                largest = Math.max(largest, weights[r] + largestValue(nextState(transition), memo));
+            }
+        }
+        memo[state] = largest + 1;
+        return largest;
+    }
+
+    /**
+     * @return A builder for a new numeral system
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return The largest value a valid numeral of this system can have. The smallest is its negation.
+     */
+    public int getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * @return The number of states of the validation DFA
+     */
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    /**
+     * Reads a number in either the Arabic form or the form of this system, with the same rules as the
+     * {@link ElbonianArabicConverter} constructor.
+     *
+     * @param number A string that represents either a numeral of this system or an Arabic number
+     * @return The arabic value
+     * @throws ValueOutOfBoundsException Thrown if the value is an Arabic integer that this system cannot
+     * write
+     * @throws MalformedNumberException Thrown if the string is not a valid number
+     */
+    public int parse(CharSequence number) throws MalformedNumberException, ValueOutOfBoundsException {
+        int result = ElbonianParser.parse(this, number);
+        ConversionStatus.check(ElbonianParser.status(result));
+        return result;
+    }
+
+    /**
+     * Looks up the numeral of this system for a value. Every numeral returned is read back as the same
+     * value by {@link #parse(CharSequence)}. When a value has several numerals, the one with the
+     * earliest symbols is used, which for the Elbonian system is the numeral with the largest symbols
+     * first. Some values in range have no valid numeral at all: in the Elbonian system, three L rule
+     * out I, so 91 cannot be written.
+     *
+     * @param value An arabic value
+     * @return The numeral
+     * @throws ValueOutOfBoundsException Thrown if the value is larger than {@link #getMaxValue()},
+     * smaller than its negation, or has no valid numeral
+     */
+    public String format(int value) throws ValueOutOfBoundsException {
+        if (value > maxValue || value < -maxValue) {
+            throw new ValueOutOfBoundsException(ConversionStatus.message(ConversionStatus.OUT_OF_BOUNDS));
+        }
+        String numeral = numerals()[maxValue + value];
+        if (numeral == null) {
+            throw new ValueOutOfBoundsException("Value cannot be written in this numeral system");
+        }
+        return numeral;
+    }
+
+    /**
+     * Returns the position of a character in the symbol order.
+     *
+     * @param ch A character
+     * @return The position of the symbol, or -1 if the character is not a symbol of this system
+     */
+    int rank(int ch) {
+        return ch >= 0 && ch < 128 ? rank[ch] : -1;
+    }
+
+    char zero() {
+        return zero;
+    }
+
+    /**
+     * Returns the numeral table, building it if this is the first call. Threads that race to build it
+     * each make an identical table, so any one of them may be kept.
+     */
+    private String[] numerals() {
+        String[] table = numerals;
+        if (table == null) {
+            table = new String[2 * maxValue + 1];
+            table[maxValue] = String.valueOf(zero);
+            char[] buffer = new char[MAX_SYMBOLS * MAX_REPEATS + 1];
+            buffer[0] = '-';
+            collectNumerals(table, 0, 0, buffer, 1, new HashSet<Long>());
+            numerals = table;
+        }
+        return table;
+    }
+
+    /**
+     * Walks every valid numeral depth first, taking the symbols in order, so the numerals are met in
+     * the order of their symbols and the first one found for a value is kept. For the Elbonian system
+     * that is the numeral with the largest symbols first. Once a state has been reached with some
+     * value, reaching it again with the same value can only lead to later numerals, so the walk stops.
+     */
+    private void collectNumerals(String[] table, int state, int value, char[] buffer, int length,
+            Set<Long> seen) {
+        if (!seen.add((long) state << 32 | value)) {
+            return;
+        }
+        if (length > 1 && table[maxValue + value] == null) {
+            table[maxValue + value] = new String(buffer, 1, length - 1);
+            table[maxValue - value] = new String(buffer, 0, length);
+        }
+        for (int r = 0; r < symbols.length; r++) {
+            int transition = transition(state, r);
+            if (transition != NO_TRANSITION && errorKey(transition) < 0) {
+                buffer[length] = symbols[r];
+                collectNumerals(table, nextState(transition), value + weights[r], buffer, length + 1, seen);
+            }
+        }
+    }
+
+    int weight(int rank) {
+        return weights[rank];
+    }
+
+    char[] symbols() {
+        return symbols.clone();
+    }
+
+    int[] weights() {
+        return weights.clone();
+    }
+
+    /**
+     * Looks up the transition of the validation DFA for a symbol.
+     *
+     * @param state A state, where 0 is the state before the first symbol
+     * @param rank The position of the symbol
+     * @return The transition, or {@link #NO_TRANSITION} if the symbol is out of order
+     */
+    int transition(int state, int rank) {
+        return transitions[state * symbols.length + rank];
+    }
+
+    static int nextState(int transition) {
+        return transition & (MAX_STATES - 1);
+    }
+
+    /**
+     * @return The key that orders the rule broken by the transition, or -1 if it breaks none
+     */
+    static int errorKey(int transition) {
+        return (transition >>> KEY_SHIFT & 31) - 1;
+    }
+
+    static byte errorStatus(int transition) {
+        return (byte) (transition >>> STATUS_SHIFT & 31);
+    }
+
+    /**
+     * Collects the description of a numeral system.
+     */
+    public static final class Builder {
+        private final List<Character> symbols = new ArrayList<Character>();
+        private final List<Integer> weights = new ArrayList<Integer>();
+        private final List<Integer> repeats = new ArrayList<Integer>();
+        private final List<Character> triggers = new ArrayList<Character>();
+        private final List<Integer> counts = new ArrayList<Integer>();
+        private final List<Character> forbidden = new ArrayList<Character>();
+        private final List<Byte> statuses = new ArrayList<Byte>();
+        private char zero;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds the next symbol. Symbols must be added in the order they are written in a numeral.
+         *
+         * @param symbol An ASCII letter or punctuation character
+         * @param weight The value of the symbol
+         * @param maxRepeats The most times the symbol may appear
+         * @return This builder
+         */
+        public Builder symbol(char symbol, int weight, int maxRepeats) {
+            checkCharacter(symbol);
+            if (symbols.contains(symbol)) {
+                throw new IllegalArgumentException("Symbol added twice: " + symbol);
+            }
+            if (symbols.size() == MAX_SYMBOLS) {
+                throw new IllegalArgumentException("A numeral system has at most " + MAX_SYMBOLS + " symbols");
+            }
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Weight must be positive: " + symbol);
+            }
+            if (maxRepeats < 1 || maxRepeats > MAX_REPEATS) {
+                throw new IllegalArgumentException("Repeats must be between 1 and " + MAX_REPEATS + ": " + symbol);
+            }
+            symbols.add(symbol);
+            weights.add(weight);
+            repeats.add(maxRepeats);
+            return this;
+        }
+
+        /**
+         * Adds a rule that forbids a symbol once another has appeared a number of times.
+         *
+         * @param trigger The symbol whose repeats trigger the rule
+         * @param count The number of times the trigger must appear
+         * @param excluded The symbol that may not appear once the rule is triggered
+         * @param status The {@link ConversionStatus} reported when the rule is broken
+         * @return This builder
+         */
+        public Builder exclusion(char trigger, int count, char excluded, byte status) {
+            if (!symbols.contains(trigger) || !symbols.contains(excluded)) {
+                throw new IllegalArgumentException("Rules can only use symbols that were already added");
+            }
+            if (count < 1) {
+                throw new IllegalArgumentException("Count must be positive");
+            }
+            if (status <= ConversionStatus.OK || status > ConversionStatus.RUN_LENGTH) {
+                throw new IllegalArgumentException("Not a rejection status: " + status);
+            }
+            if (triggers.size() == MAX_RULES) {
+                throw new IllegalArgumentException("A numeral system has at most " + MAX_RULES + " rules");
+            }
+            triggers.add(trigger);
+            counts.add(count);
+            forbidden.add(excluded);
+            statuses.add(status);
+            return this;
+        }
+
+        /**
+         * Sets the symbol that is written alone for zero.
+         *
+         * @param symbol An ASCII letter or punctuation character that is not one of the other symbols
+         * @return This builder
+         */
+        public Builder zero(char symbol) {
+            checkCharacter(symbol);
+            zero = symbol;
+            return this;
+        }
+
+        /**
+         * Compiles the description.
+         *
+         * @return The numeral system
+         */
+        public NumeralSystem build() {
+            if (symbols.isEmpty()) {
+                throw new IllegalStateException("A numeral system needs at least one symbol");
+            }
+            if (zero == 0) {
+                throw new IllegalStateException("A numeral system needs a zero symbol");
+            }
+            if (symbols.contains(zero)) {
+                throw new IllegalStateException("The zero symbol is also a symbol: " + zero);
+            }
+            return new NumeralSystem(this);
+        }
+
+        private static void checkCharacter(char symbol) {
+            if (symbol <= ' ' || symbol >= 127 || symbol == '-' || symbol == '+' || (symbol >= '0' && symbol <= '9')) {
+                throw new IllegalArgumentException("Not a usable symbol: " + symbol);
+            }
+        }
+    }
+}
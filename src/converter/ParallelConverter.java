@@ -0,0 +1,143 @@
+package converter;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Converts large arrays of numbers on every core. The input is split in half with fork/join until the
+ * pieces are small enough, and each piece is converted by {@link BatchConverter} straight into the
+ * output arrays, so the results are identical to a sequential run.
+ */
+public final class ParallelConverter {
+    // Pieces smaller than this are not worth handing to another thread
+    static final int MIN_CHUNK = 1 << 13;
+
+    private ParallelConverter() {
+    }
+
+    /**
+     * Reads every string in the array as an Arabic or Elbonian number using the common pool.
+     *
+     * @param in The numbers to read
+     * @param outValues Receives the arabic value of each number, or 0 if it could not be read
+     * @param outStatus Receives the status of each number
+     * @return The number of elements that were read successfully
+     */
+    public static int convertAll(CharSequence[] in, int[] outValues, byte[] outStatus) {
+        return convertAll(in, outValues, outStatus, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads every string in the array as an Arabic or Elbonian number using the given pool.
+     *
+     * @param in The numbers to read
+     * @param outValues Receives the arabic value of each number, or 0 if it could not be read
+     * @param outStatus Receives the status of each number
+     * @param pool The pool to run the conversion in
+     * @return The number of elements that were read successfully
+     */
+    public static int convertAll(CharSequence[] in, int[] outValues, byte[] outStatus, ForkJoinPool pool) {
+        BatchConverter.checkRange(in.length, 0, in.length, outValues.length, outStatus.length);
+        int cutoff = cutoff(in.length, pool.getParallelism());
+        return pool.invoke(new ReadTask(in, outValues, outStatus, 0, in.length, cutoff));
+    }
+
+    /**
+     * Converts every value in the array to an Elbonian numeral using the common pool.
+     *
+     * @param in The arabic values to convert
+     * @param outNumerals Receives the numeral for each value, or null if it is out of bounds
+     * @param outStatus Receives the status of each value
+     * @return The number of values that were converted
+     */
+    public static int convertAll(int[] in, String[] outNumerals, byte[] outStatus) {
+        return convertAll(in, outNumerals, outStatus, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts every value in the array to an Elbonian numeral using the given pool.
+     *
+     * @param in The arabic values to convert
+     * @param outNumerals Receives the numeral for each value, or null if it is out of bounds
+     * @param outStatus Receives the status of each value
+     * @param pool The pool to run the conversion in
+     * @return The number of values that were converted
+     */
+    public static int convertAll(int[] in, String[] outNumerals, byte[] outStatus, ForkJoinPool pool) {
+        BatchConverter.checkRange(in.length, 0, in.length, outNumerals.length, outStatus.length);
+        int cutoff = cutoff(in.length, pool.getParallelism());
+        return pool.invoke(new WriteTask(in, outNumerals, outStatus, 0, in.length, cutoff));
+    }
+
+    /**
+     * Picks the size below which a piece is converted sequentially. Each thread gets about eight pieces
+     * so that work stealing can even out uneven pieces, but no piece is smaller than {@link #MIN_CHUNK}.
+     *
+     * @param length The number of elements to convert
+     * @param parallelism The number of threads in the pool
+     * @return The sequential cutoff
+     */
+    static int cutoff(int length, int parallelism) {
+        return Math.max(MIN_CHUNK, length / (parallelism * 8));
+    }
+
+    private static final class ReadTask extends RecursiveTask<Integer> {
+        private final CharSequence[] in;
+        private final int[] outValues;
+        private final byte[] outStatus;
+        private final int from;
+        private final int to;
+        private final int cutoff;
+
+        ReadTask(CharSequence[] in, int[] outValues, byte[] outStatus, int from, int to, int cutoff) {
+            this.in = in;
+            this.outValues = outValues;
+            this.outStatus = outStatus;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= cutoff) {
+                return BatchConverter.convertAll(in, from, to, outValues, outStatus);
+            }
+            int middle = (from + to) >>> 1;
+            ReadTask left = new ReadTask(in, outValues, outStatus, from, middle, cutoff);
+            left.fork();
+            int right = new ReadTask(in, outValues, outStatus, middle, to, cutoff).compute();
+            return left.join() + right;
+        }
+    }
+
+    private static final class WriteTask extends RecursiveTask<Integer> {
+        private final int[] in;
+        private final String[] outNumerals;
+        private final byte[] outStatus;
+        private final int from;
+        private final int to;
+        private final int cutoff;
+
+        WriteTask(int[] in, String[] outNumerals, byte[] outStatus, int from, int to, int cutoff) {
+            this.in = in;
+            this.outNumerals = outNumerals;
+            this.outStatus = outStatus;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= cutoff) {
+                return BatchConverter.convertAll(in, from, to, outNumerals, outStatus);
+            }
+            int middle = (from + to) >>> 1;
+            WriteTask left = new WriteTask(in, outNumerals, outStatus, from, middle, cutoff);
+            left.fork();
+            int right = new WriteTask(in, outNumerals, outStatus, middle, to, cutoff).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package converter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Answers a stream of lines with the protocol shared by {@link ConversionServer} and {@link ConverterCli}.
+ * Each line is read as an Arabic or Elbonian number, and the response is the number in the other form,
+ * or "ERR " followed by the reason it was rejected, and then a newline. Responses are collected in a
+ * buffer and written when it fills up and whenever no more input is waiting.
+ *
+ * The static methods write single responses into a byte array, for callers with their own buffers.
+ */
+class ResponseWriter implements ElbonianPushParser.Listener {
+    private static final byte[] ERROR_PREFIX = "ERR ".getBytes(StandardCharsets.US_ASCII);
+
+    // Input is parsed in slices so that the responses to one slice always fit in the output buffer.
+    // No response is longer than MAX_RESPONSE, and a line takes at least one byte.
+    static final int MAX_RESPONSE = 64;
+    private static final int SLICE = 1 << 10;
+    private static final int OUTPUT_SIZE = 2 * SLICE * MAX_RESPONSE;
+
+    private final ElbonianTableFile table;
+    private final byte[] input;
+    private final byte[] output = new byte[OUTPUT_SIZE];
+    private final ElbonianPushParser parser = new ElbonianPushParser(this);
+    private int outputLength;
+    private long rejected;
+
+    /**
+     * @param table The table to take numerals from, or null to use the tables in memory
+     * @param inputSize How many bytes to read at a time
+     */
+    ResponseWriter(ElbonianTableFile table, int inputSize) {
+        this.table = table;
+        this.input = new byte[inputSize];
+    }
+
+    /**
+     * Answers every line of a stream until it ends or {@link #stopped()} returns true.
+     *
+     * @param in The lines to answer
+     * @param out Receives one response for each line
+     * @return The number of lines that were rejected
+     * @throws IOException Thrown if the input cannot be read or the output cannot be written
+     */
+    long answer(InputStream in, OutputStream out) throws IOException {
+        parser.reset();
+        rejected = 0;
+        outputLength = 0;
+        int read;
+        while (!stopped() && (read = in.read(input)) >= 0) {
+            for (int offset = 0; offset < read; offset += SLICE) {
+                parser.feed(input, offset, Math.min(SLICE, read - offset));
+                if (outputLength > OUTPUT_SIZE - SLICE * MAX_RESPONSE) {
+                    flush(out);
+                }
+            }
+            if (in.available() == 0) {
+                flush(out);
+            }
+        }
+        parser.finish();
+        flush(out);
+        return rejected;
+    }
+
+    /**
+     * Returns whether to stop reading before the stream ends.
+     */
+    boolean stopped() {
+        return false;
+    }
+
+    @Override
+    public void onValue(int value, boolean arabic) {
+        outputLength = putValue(value, arabic, table, output, outputLength);
+    }
+
+    @Override
+    public void onError(byte status) {
+        rejected++;
+        outputLength = putError(status, output, outputLength);
+    }
+
+    private void flush(OutputStream out) throws IOException {
+        if (outputLength > 0) {
+            out.write(output, 0, outputLength);
+            out.flush();
+            outputLength = 0;
+        }
+    }
+
+    /**
+     * Writes the response to a valid line.
+     *
+     * @param value The value of the line
+     * @param arabic Whether the line was Arabic, so that the response is a numeral
+     * @param table The table to take numerals from, or null to use the tables in memory
+     * @param dst The array to write to, with room for {@link #MAX_RESPONSE} bytes
+     * @param off The index to write the first byte at
+     * @return The index after the newline
+     */
+    static int putValue(int value, boolean arabic, ElbonianTableFile table, byte[] dst, int off) {
+        if (!arabic) {
+            off = putArabic(value, dst, off);
+        } else if (table != null) {
+            off += table.copy(value, dst, off);
+        } else {
+            byte[] numeral = ElbonianTables.bytes(value);
+            System.arraycopy(numeral, 0, dst, off, numeral.length);
+            off += numeral.length;
+        }
+        dst[off++] = '\n';
+        return off;
+    }
+
+    /**
+     * Writes the response to a rejected line.
+     *
+     * @param status The reason the line was rejected
+     * @param dst The array to write to, with room for {@link #MAX_RESPONSE} bytes
+     * @param off The index to write the first byte at
+     * @return The index after the newline
+     */
+    static int putError(byte status, byte[] dst, int off) {
+        System.arraycopy(ERROR_PREFIX, 0, dst, off, ERROR_PREFIX.length);
+        off += ERROR_PREFIX.length;
+        String message = ConversionStatus.message(status);
+        for (int i = 0; i < message.length(); i++) {
+            dst[off++] = (byte) message.charAt(i);
+        }
+        dst[off++] = '\n';
+        return off;
+    }
+
+    /**
+     * Writes the decimal digits of a value, with a minus sign if it is negative.
+     *
+     * @return The index after the last digit
+     */
+    static int putArabic(int value, byte[] dst, int off) {
+        if (value < 0) {
+            dst[off++] = '-';
+            value = -value;
+        }
+        int divisor = 1;
+        while (divisor * 10 <= value) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            dst[off++] = (byte) ('0' + value / divisor % 10);
+        }
+        return off;
+    }
+}
@@ -0,0 +1,264 @@
+package converter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Converts a file with one Arabic or Elbonian number on each line. Arabic lines are written out as
+ * Elbonian numerals and Elbonian lines as Arabic values, one result per line. Lines that are not valid
+ * numbers are copied unchanged to a separate reject channel.
+ *
+ * The input is memory mapped a window at a time and read as ASCII bytes in place, so no String is made
+ * for any line. Output goes through reusable direct buffers.
+ */
+public class StreamingFileConverter {
+    private static final int DEFAULT_WINDOW = 64 << 20;
+    private static final int DEFAULT_BUFFER = 64 << 10;
+
+    private final int windowSize;
+    private final ByteBuffer outputBuffer;
+    private final ByteBuffer rejectBuffer;
+    private final byte[] response = new byte[ResponseWriter.MAX_RESPONSE];
+
+    /**
+     * Creates a converter that maps 64 MB of input and buffers 64 KB of output at a time.
+     */
+    public StreamingFileConverter() {
+        this(DEFAULT_WINDOW, DEFAULT_BUFFER);
+    }
+
+    /**
+     * Creates a converter with the given window and buffer sizes.
+     *
+     * @param windowSize How many bytes of input to map at once
+     * @param bufferSize How many bytes of output to collect before each write
+     */
+    public StreamingFileConverter(int windowSize, int bufferSize) {
+        if (windowSize <= 0 || bufferSize < ElbonianTables.MAX_LENGTH + 1) {
+            throw new IllegalArgumentException("Window or buffer size too small");
+        }
+        this.windowSize = windowSize;
+        this.outputBuffer = ByteBuffer.allocateDirect(bufferSize);
+        this.rejectBuffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Converts one file into another.
+     *
+     * @param input The file to read
+     * @param output The file to write the results to
+     * @param rejects The file to copy malformed lines to, or null to drop them
+     * @return The counts and timing of the run
+     * @throws IOException Thrown if a file cannot be read or written
+     */
+    public Report convert(Path input, Path output, Path rejects) throws IOException {
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             FileChannel rejected = rejects == null ? null : FileChannel.open(rejects, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            return convert(input, out, rejected);
+        }
+    }
+
+    /**
+     * Converts a file, writing to the given channels.
+     *
+     * @param input The file to read
+     * @param output Receives the results
+     * @param rejects Receives malformed lines, or null to drop them
+     * @return The counts and timing of the run
+     * @throws IOException Thrown if the file cannot be read or a channel cannot be written
+     */
+    public Report convert(Path input, WritableByteChannel output, WritableByteChannel rejects) throws IOException {
+        long started = System.nanoTime();
+        long lines = 0;
+        long rejected = 0;
+        long size;
+        outputBuffer.clear();
+        rejectBuffer.clear();
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            size = in.size();
+            long position = 0;
+            int window = windowSize;
+            while (position < size) {
+                int length = (int) Math.min(window, size - position);
+                boolean last = position + length == size;
+                MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int lineStart = 0;
+                long state = ElbonianParser.START;
+                for (int index = 0; index < length; index++) {
+                    byte b = mapped.get(index);
+                    if (b != '\n') {
+                        state = ElbonianParser.step(state, b & 0xFF);
+                        continue;
+                    }
+                    lines++;
+                    if (!write(state, output)) {
+                        rejected++;
+                        reject(mapped, lineStart, index, rejects);
+                    }
+                    lineStart = index + 1;
+                    state = ElbonianParser.START;
+                }
+                if (last && lineStart < length) {
+                    lines++;
+                    if (!write(state, output)) {
+                        rejected++;
+                        reject(mapped, lineStart, length, rejects);
+                    }
+                    lineStart = length;
+                }
+                if (lineStart == 0 && !last) {
+                    // A single line is longer than the window, so map more of it next time
+                    if (window > Integer.MAX_VALUE / 2) {
+                        throw new IOException("Line longer than " + window + " bytes at offset " + position);
+                    }
+                    window *= 2;
+                }
+                // The next window starts at the first line that was not finished
+                position += lineStart;
+            }
+        }
+        flush(outputBuffer, output);
+        if (rejects != null) {
+            flush(rejectBuffer, rejects);
+        }
+        return new Report(lines, rejected, size, System.nanoTime() - started);
+    }
+
+    /**
+     * Writes the result of a finished line to the output.
+     *
+     * @return False if the line was not a valid number
+     */
+    private boolean write(long state, WritableByteChannel channel) throws IOException {
+        int value = ElbonianParser.finish(state);
+        if (ElbonianParser.isError(value)) {
+            return false;
+        }
+        if (outputBuffer.remaining() < ElbonianTables.MAX_LENGTH + 1) {
+            flush(outputBuffer, channel);
+        }
+        int length = ResponseWriter.putValue(value, ElbonianParser.isArabic(state), null, response, 0);
+        outputBuffer.put(response, 0, length);
+        return true;
+    }
+
+    private void reject(MappedByteBuffer mapped, int start, int end, WritableByteChannel channel) throws IOException {
+        if (channel == null) {
+            return;
+        }
+        for (int index = start; index < end; index++) {
+            if (!rejectBuffer.hasRemaining()) {
+                flush(rejectBuffer, channel);
+            }
+            rejectBuffer.put(mapped.get(index));
+        }
+        if (!rejectBuffer.hasRemaining()) {
+            flush(rejectBuffer, channel);
+        }
+        rejectBuffer.put((byte) '\n');
+    }
+
+    private static void flush(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * The counts and timing of one conversion run.
+     */
+    public static final class Report {
+        private final long lines;
+        private final long rejected;
+        private final long bytes;
+        private final long nanos;
+
+        Report(long lines, long rejected, long bytes, long nanos) {
+            this.lines = lines;
+            this.rejected = rejected;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+        /**
+         * @return The number of lines read
+         */
+        public long getLines() {
+            return lines;
+        }
+
+        /**
+         * @return The number of lines that were converted
+         */
+        public long getConverted() {
+            return lines - rejected;
+        }
+
+        /**
+         * @return The number of malformed lines
+         */
+        public long getRejected() {
+            return rejected;
+        }
+
+        /**
+         * @return The size of the input in bytes
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return The time the run took in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return The number of lines read per second
+         */
+        public double linesPerSecond() {
+            return nanos == 0 ? 0 : lines * 1e9 / nanos;
+        }
+
+        /**
+         * @return The number of input megabytes read per second
+         */
+        public double megabytesPerSecond() {
+            return nanos == 0 ? 0 : bytes * 1e9 / nanos / (1 << 20);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d lines, %d converted, %d rejected in %.3f s (%.0f lines/s, %.1f MB/s)",
+                    lines, getConverted(), rejected, nanos / 1e9, linesPerSecond(), megabytesPerSecond());
+        }
+    }
+
+    /**
+     * Converts a file from the command line and prints the report to standard error.
+     *
+     * @param args The input file, the output file and optionally the reject file
+     * @throws IOException Thrown if a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: StreamingFileConverter <input> <output> [rejects]");
+            System.exit(2);
+        }
+        Path rejects = args.length == 3 ? Paths.get(args[2]) : null;
+        Report report = new StreamingFileConverter().convert(Paths.get(args[0]), Paths.get(args[1]), rejects);
+        System.err.println(report);
+    }
+}
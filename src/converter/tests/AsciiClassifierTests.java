@@ -0,0 +1,103 @@
+package converter.tests;
+
+import converter.AsciiClassifier;
+import converter.BatchConverter;
+import converter.ConversionStatus;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Test cases for the AsciiClassifier class.
+ */
+public class AsciiClassifierTests {
+
+    private static byte classify(String record) {
+        byte[] bytes = record.getBytes(StandardCharsets.ISO_8859_1);
+        return AsciiClassifier.classify(bytes, 0, bytes.length);
+    }
+
+    @Test
+    public void arabicTest() {
+        assertEquals(classify("2202"), AsciiClassifier.ARABIC);
+        assertEquals(classify(" -9999 "), AsciiClassifier.ARABIC);
+        assertEquals(classify("+12345678901234567890"), AsciiClassifier.ARABIC);
+        assertEquals(classify("0000000000000000"), AsciiClassifier.ARABIC);
+    }
+
+    @Test
+    public void elbonianTest() {
+        assertEquals(classify("MMCCII"), AsciiClassifier.ELBONIAN);
+        assertEquals(classify("\t-NNMMDDCCLLXXVVII\r"), AsciiClassifier.ELBONIAN);
+        assertEquals(classify("Z"), AsciiClassifier.ELBONIAN);
+        assertEquals(classify("NNNNNNNNNNNNNNNNNNNN"), AsciiClassifier.ELBONIAN);
+    }
+
+    @Test
+    public void invalidTest() {
+        String[] invalid = {"", "   ", "-", "+", "+-1", "--1", "-Z", "ZZ", "IM", "NNNNNNNNI2", "12345678X",
+                "9 9", "M M", "MMMMMMMMMMMMMMMN", "+I", "mm", "0x10", "\u00e9", "22022022\u00e9"};
+        for (String record : invalid) {
+            assertEquals(record, classify(record), AsciiClassifier.INVALID);
+        }
+    }
+
+    @Test
+    public void directBufferTest() {
+        byte[] bytes = "xx NNMMDDCCLLXXVVII xx".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        assertEquals(AsciiClassifier.classify(direct, 2, bytes.length - 2), AsciiClassifier.ELBONIAN);
+        assertEquals(AsciiClassifier.classify(direct, 0, bytes.length), AsciiClassifier.INVALID);
+    }
+
+    @Test
+    public void slicedBufferTest() {
+        byte[] bytes = "xx 22022022 MMCCII".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(3);
+        ByteBuffer slice = buffer.slice();
+        assertEquals(AsciiClassifier.classify(slice, 0, 8), AsciiClassifier.ARABIC);
+        assertEquals(AsciiClassifier.classify(slice, 9, 15), AsciiClassifier.ELBONIAN);
+        assertEquals(AsciiClassifier.classify(slice, 5, 12), AsciiClassifier.INVALID);
+    }
+
+    @Test
+    public void neverRejectsValidInputTest() {
+        Random random = new Random(3733);
+        String alphabet = "NMDCLXVIZ-+0123456789 \t";
+        int count = 20000;
+        String[] records = new String[count];
+        StringBuilder all = new StringBuilder();
+        int[] offsets = new int[count + 1];
+        for (int i = 0; i < count; i++) {
+            StringBuilder record = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                record.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            records[i] = random.nextInt(4) == 0 ? Integer.toString(random.nextInt(30000) - 15000) : record.toString();
+            offsets[i] = all.length();
+            all.append(records[i]);
+        }
+        offsets[count] = all.length();
+        byte[] classes = new byte[count];
+        AsciiClassifier.classifyAll(all.toString().getBytes(StandardCharsets.US_ASCII), offsets, classes);
+        int[] values = new int[count];
+        byte[] status = new byte[count];
+        BatchConverter.convertAll(records, values, status);
+        for (int i = 0; i < count; i++) {
+            if (status[i] == ConversionStatus.OK || status[i] == ConversionStatus.OUT_OF_BOUNDS) {
+                assertNotEquals(records[i], classes[i], AsciiClassifier.INVALID);
+            }
+            if (classes[i] == AsciiClassifier.INVALID) {
+                assertNotEquals(records[i], status[i], ConversionStatus.OK);
+            }
+        }
+    }
+}
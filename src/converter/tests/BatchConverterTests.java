@@ -0,0 +1,85 @@
+package converter.tests;
+
+import converter.BatchConverter;
+import converter.ConversionStatus;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test cases for the BatchConverter class.
+ */
+public class BatchConverterTests {
+
+    @Test
+    public void mixedInputTest() {
+        CharSequence[] in = {"MMCCII", " 42 ", "-I", "NNNM", "10000", null, "", "9 9", "Z"};
+        int[] values = new int[in.length];
+        byte[] status = new byte[in.length];
+        int converted = BatchConverter.convertAll(in, values, status);
+        assertEquals(converted, 4);
+        assertArrayEquals(values, new int[]{2202, 42, -1, 0, 0, 0, 0, 0, 0});
+        assertArrayEquals(status, new byte[]{ConversionStatus.OK, ConversionStatus.OK, ConversionStatus.OK,
+                ConversionStatus.THREE_N_WITH_M, ConversionStatus.OUT_OF_BOUNDS, ConversionStatus.NULL,
+                ConversionStatus.EMPTY, ConversionStatus.SPACE, ConversionStatus.OK});
+    }
+
+    @Test
+    public void statusMatchesConstructorTest() {
+        String[] in = {"MMMM", "LLLI", "-", "+", "-Z", "NNNDDDLLLVVV", "DDDC", "2147483648"};
+        int[] values = new int[in.length];
+        byte[] status = new byte[in.length];
+        BatchConverter.convertAll(in, values, status);
+        for (int i = 0; i < in.length; i++) {
+            try {
+                ElbonianArabicConverter converter = new ElbonianArabicConverter(in[i]);
+                assertEquals(status[i], ConversionStatus.OK);
+                assertEquals(values[i], converter.toArabic());
+            } catch (MalformedNumberException e) {
+                assertEquals(ConversionStatus.message(status[i]), e.getMessage());
+            } catch (ValueOutOfBoundsException e) {
+                assertEquals(status[i], ConversionStatus.OUT_OF_BOUNDS);
+            }
+        }
+    }
+
+    @Test
+    public void rangeTest() {
+        CharSequence[] in = {"bad", "I", "II", "bad"};
+        int[] values = new int[in.length];
+        byte[] status = new byte[in.length];
+        assertEquals(BatchConverter.convertAll(in, 1, 3, values, status), 2);
+        assertArrayEquals(values, new int[]{0, 1, 2, 0});
+        assertArrayEquals(status, new byte[]{0, 0, 0, 0});
+    }
+
+    @Test
+    public void toElbonianTest() {
+        int[] in = {0, 2202, -9999, 10000, -10000};
+        String[] numerals = new String[in.length];
+        byte[] status = new byte[in.length];
+        assertEquals(BatchConverter.convertAll(in, numerals, status), 3);
+        assertEquals(numerals[0], "Z");
+        assertEquals(numerals[1], "MMCCII");
+        assertEquals(numerals[2], "-NNNDDDLLLVVV");
+        assertNull(numerals[3]);
+        assertNull(numerals[4]);
+        assertEquals(status[3], ConversionStatus.OUT_OF_BOUNDS);
+        assertEquals(status[4], ConversionStatus.OUT_OF_BOUNDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shortOutputTest() {
+        BatchConverter.convertAll(new CharSequence[]{"I", "I"}, new int[1], new byte[2]);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void badRangeTest() {
+        BatchConverter.convertAll(new int[2], 1, 3, new String[3], new byte[3]);
+    }
+}
@@ -0,0 +1,216 @@
+package converter.tests;
+
+import converter.ConversionProcessor;
+import converter.ConversionResult;
+import converter.ConversionStatus;
+import converter.Flow;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ConversionProcessor class.
+ */
+public class ConversionProcessorTests {
+
+    /**
+     * Publishes the items of a list on the calling thread, as they are asked for.
+     */
+    private static final class ListPublisher<T> implements Flow.Publisher<T> {
+        private final List<T> items;
+        private final Throwable failure;
+        final List<Long> requests = new ArrayList<Long>();
+        boolean cancelled;
+        private int next;
+        private long demand;
+        private boolean emitting;
+
+        ListPublisher(List<T> items, Throwable failure) {
+            this.items = items;
+            this.failure = failure;
+        }
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requests.add(n);
+                    demand += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && next < items.size() && !cancelled) {
+                        demand--;
+                        subscriber.onNext(items.get(next++));
+                    }
+                    if (next == items.size() && !cancelled) {
+                        next++;
+                        if (failure != null) {
+                            subscriber.onError(failure);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                    }
+                    emitting = false;
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    /**
+     * Records what it receives and only asks for items when told to.
+     */
+    private static final class Recorder implements Flow.Subscriber<ConversionResult> {
+        final List<ConversionResult> results = new ArrayList<ConversionResult>();
+        Flow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ConversionResult item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private static <T> Recorder connect(ListPublisher<T> publisher, ConversionProcessor<T> processor) {
+        Recorder recorder = new Recorder();
+        publisher.subscribe(processor);
+        processor.subscribe(recorder);
+        return recorder;
+    }
+
+    @Test
+    public void parsingTest() {
+        ListPublisher<CharSequence> publisher = new ListPublisher<CharSequence>(
+                Arrays.<CharSequence>asList("MMCCII", "42", "NNNM", "10000", "Z", "-"), null);
+        Recorder recorder = connect(publisher, ConversionProcessor.parsing(4));
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertEquals(recorder.results.size(), 6);
+        assertEquals(recorder.results.get(0).getValue(), 2202);
+        assertEquals(recorder.results.get(1).getNumeral(), "LXII");
+        assertEquals(recorder.results.get(2).getMessage(), "Three N contains M");
+        assertEquals(recorder.results.get(3).getStatus(), ConversionStatus.OUT_OF_BOUNDS);
+        assertEquals(recorder.results.get(4).getNumeral(), "Z");
+        assertEquals(recorder.results.get(5).getStatus(), ConversionStatus.LONE_SIGN);
+        assertFalse(recorder.results.get(5).isOk());
+        assertNull(recorder.results.get(5).getNumeral());
+        assertTrue(recorder.completed);
+        assertNull(recorder.error);
+    }
+
+    @Test
+    public void formattingTest() {
+        ListPublisher<Integer> publisher = new ListPublisher<Integer>(Arrays.asList(2202, -10000, 0, 9999), null);
+        Recorder recorder = connect(publisher, ConversionProcessor.formatting(3));
+        recorder.subscription.request(10);
+        assertEquals(recorder.results.get(0).getNumeral(), "MMCCII");
+        assertEquals(recorder.results.get(1).getStatus(), ConversionStatus.OUT_OF_BOUNDS);
+        assertEquals(recorder.results.get(2).getNumeral(), "Z");
+        assertEquals(recorder.results.get(3).getNumeral(), "NNNDDDLLLVVV");
+        assertTrue(recorder.completed);
+    }
+
+    @Test
+    public void backpressureTest() {
+        List<CharSequence> items = new ArrayList<CharSequence>();
+        for (int i = 1; i <= 10; i++) {
+            items.add(Integer.toString(i));
+        }
+        ListPublisher<CharSequence> publisher = new ListPublisher<CharSequence>(items, null);
+        Recorder recorder = connect(publisher, ConversionProcessor.parsing(4));
+        assertTrue(publisher.requests.isEmpty());
+
+        recorder.subscription.request(3);
+        assertEquals(recorder.results.size(), 3);
+        assertEquals(publisher.requests, Arrays.asList(4L));
+
+        recorder.subscription.request(1);
+        assertEquals(recorder.results.size(), 4);
+        assertEquals(publisher.requests, Arrays.asList(4L));
+
+        recorder.subscription.request(5);
+        assertEquals(recorder.results.size(), 9);
+        assertEquals(publisher.requests, Arrays.asList(4L, 4L, 4L));
+        assertFalse(recorder.completed);
+
+        recorder.subscription.request(1);
+        assertEquals(recorder.results.size(), 10);
+        assertEquals(recorder.results.get(9).getNumeral(), "X");
+        assertTrue(recorder.completed);
+    }
+
+    @Test
+    public void upstreamErrorAfterResultsTest() {
+        IllegalStateException failure = new IllegalStateException("source failed");
+        ListPublisher<CharSequence> publisher = new ListPublisher<CharSequence>(
+                Arrays.<CharSequence>asList("I", "II", "III"), failure);
+        Recorder recorder = connect(publisher, ConversionProcessor.parsing(2));
+        recorder.subscription.request(100);
+        assertEquals(recorder.results.size(), 3);
+        assertEquals(recorder.error, failure);
+        assertFalse(recorder.completed);
+    }
+
+    @Test
+    public void cancelTest() {
+        ListPublisher<CharSequence> publisher = new ListPublisher<CharSequence>(
+                Arrays.<CharSequence>asList("I", "II", "III", "IV"), null);
+        Recorder recorder = connect(publisher, ConversionProcessor.parsing(2));
+        recorder.subscription.request(1);
+        recorder.subscription.cancel();
+        recorder.subscription.request(5);
+        assertTrue(publisher.cancelled);
+        assertEquals(recorder.results.size(), 1);
+        assertFalse(recorder.completed);
+    }
+
+    @Test
+    public void badRequestTest() {
+        ListPublisher<CharSequence> publisher = new ListPublisher<CharSequence>(
+                Arrays.<CharSequence>asList("I"), null);
+        Recorder recorder = connect(publisher, ConversionProcessor.parsing(2));
+        recorder.subscription.request(0);
+        assertTrue(recorder.error instanceof IllegalArgumentException);
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    public void secondSubscriberTest() {
+        ConversionProcessor<Integer> processor = ConversionProcessor.formatting(8);
+        Recorder first = new Recorder();
+        Recorder second = new Recorder();
+        processor.subscribe(first);
+        processor.subscribe(second);
+        assertNull(first.error);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+}
@@ -0,0 +1,124 @@
+package converter.tests;
+
+import converter.ConversionServer;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test cases for the ConversionServer class.
+ */
+public class ConversionServerTests {
+    private ConversionServer server;
+
+    @Before
+    public void start() throws IOException {
+        server = new ConversionServer(0);
+    }
+
+    @After
+    public void stop() throws IOException {
+        server.close();
+    }
+
+    private Socket connect() throws IOException {
+        return new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void pipelinedRequestsTest() throws IOException {
+        try (Socket socket = connect()) {
+            OutputStream out = socket.getOutputStream();
+            out.write("2202\nMMCCII\n -8888 \nZ\nNNNM\n10000\n\n9 9\r\n-\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            BufferedReader in = reader(socket);
+            assertEquals(in.readLine(), "MMCCII");
+            assertEquals(in.readLine(), "2202");
+            assertEquals(in.readLine(), "-NNMMDDCCLLXXVVII");
+            assertEquals(in.readLine(), "0");
+            assertEquals(in.readLine(), "ERR Three N contains M");
+            assertEquals(in.readLine(), "ERR Arabic value out of bounds");
+            assertEquals(in.readLine(), "ERR Empty String");
+            assertEquals(in.readLine(), "ERR Space in middle");
+            assertEquals(in.readLine(), "ERR Invalid string");
+        }
+    }
+
+    /**
+     * The constructor rejects some canonical numerals, such as LLLI, and the server must agree with it.
+     */
+    private static String expected(String numeral) {
+        try {
+            return Integer.toString(new ElbonianArabicConverter(numeral).toArabic());
+        } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    @Test
+    public void manyRequestsTest() throws IOException {
+        try (Socket socket = connect()) {
+            StringBuilder requests = new StringBuilder();
+            for (int value = -9999; value <= 9999; value++) {
+                requests.append(value).append('\n');
+            }
+            socket.getOutputStream().write(requests.toString().getBytes(StandardCharsets.US_ASCII));
+            socket.shutdownOutput();
+            BufferedReader in = reader(socket);
+            StringBuilder numerals = new StringBuilder();
+            for (int value = -9999; value <= 9999; value++) {
+                numerals.append(in.readLine()).append('\n');
+            }
+            assertNull(in.readLine());
+
+            try (Socket back = connect()) {
+                back.getOutputStream().write(numerals.toString().getBytes(StandardCharsets.US_ASCII));
+                back.shutdownOutput();
+                BufferedReader values = reader(back);
+                for (String numeral : numerals.toString().split("\n")) {
+                    assertEquals(values.readLine(), expected(numeral));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void lastRequestWithoutNewlineTest() throws IOException {
+        try (Socket socket = connect()) {
+            socket.getOutputStream().write("XXVV".getBytes(StandardCharsets.US_ASCII));
+            socket.shutdownOutput();
+            BufferedReader in = reader(socket);
+            assertEquals(in.readLine(), "26");
+            assertNull(in.readLine());
+        }
+    }
+
+    @Test
+    public void closeEndsConnectionsTest() throws IOException {
+        try (Socket socket = connect()) {
+            BufferedReader in = reader(socket);
+            socket.getOutputStream().write("I\n".getBytes(StandardCharsets.US_ASCII));
+            assertEquals(in.readLine(), "1");
+            server.close();
+            assertNull(in.readLine());
+        }
+    }
+}
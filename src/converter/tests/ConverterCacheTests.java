@@ -0,0 +1,87 @@
+package converter.tests;
+
+import converter.ConversionStatus;
+import converter.ConverterCache;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test cases for the ConverterCache class.
+ */
+public class ConverterCacheTests {
+
+    @Test
+    public void sameInstanceTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ConverterCache cache = new ConverterCache(8);
+        ElbonianArabicConverter first = cache.get("MMCCII");
+        assertSame(cache.get("MMCCII"), first);
+        assertEquals(first.toArabic(), 2202);
+        assertEquals(cache.hits(), 1);
+        assertEquals(cache.misses(), 1);
+    }
+
+    @Test
+    public void sharedFactoryTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = ElbonianArabicConverter.of("2202");
+        assertSame(ElbonianArabicConverter.of("2202"), converter);
+        assertEquals(converter.toElbonian(), "MMCCII");
+    }
+
+    @Test
+    public void negativeResultCachedTest() throws ValueOutOfBoundsException {
+        ConverterCache cache = new ConverterCache(8);
+        for (int i = 0; i < 3; i++) {
+            try {
+                cache.get("NNNM");
+                Assert.fail();
+            } catch (MalformedNumberException e) {
+                assertEquals(e.getMessage(), ConversionStatus.message(ConversionStatus.THREE_N_WITH_M));
+            }
+        }
+        assertEquals(cache.misses(), 1);
+        assertEquals(cache.hits(), 2);
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void outOfBoundsCachedTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ConverterCache cache = new ConverterCache(8);
+        try {
+            cache.get("10000");
+        } catch (ValueOutOfBoundsException e) {
+            // The second lookup is answered from the cache
+        }
+        cache.get("10000");
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void nullTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        new ConverterCache(8).get(null);
+    }
+
+    @Test
+    public void evictionTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ConverterCache cache = new ConverterCache(32);
+        for (int i = 0; i < 100; i++) {
+            cache.get(Integer.toString(i));
+        }
+        assertEquals(cache.misses(), 100);
+        assertEquals(cache.size() + cache.evictions(), 100);
+        Assert.assertTrue(cache.size() <= cache.capacity());
+    }
+
+    @Test
+    public void leastRecentlyUsedEvictedTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ConverterCache cache = new ConverterCache(1);
+        ElbonianArabicConverter first = cache.get("I");
+        cache.get("II");
+        assertNotSame(cache.get("I"), first);
+        assertEquals(cache.evictions(), 2);
+    }
+}
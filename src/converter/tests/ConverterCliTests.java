@@ -0,0 +1,106 @@
+package converter.tests;
+
+import converter.ConverterCli;
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTableFile;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the ConverterCli and ElbonianTableFile classes.
+ */
+public class ConverterCliTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String run(ConverterCli cli, String input, long expectedRejects) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rejected = cli.convert(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), out);
+        assertEquals(rejected, expectedRejects);
+        return new String(out.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private ElbonianTableFile table() throws IOException {
+        Path file = folder.newFile().toPath();
+        ElbonianTableFile.write(file);
+        return ElbonianTableFile.map(file);
+    }
+
+    @Test
+    public void convertsBothDirectionsTest() throws IOException {
+        String input = "2202\n MMCCII \n-9999\r\nZ\n0\n-I";
+        String expected = "MMCCII\n2202\n-NNNDDDLLLVVV\n0\nZ\n-1\n";
+        assertEquals(run(new ConverterCli(), input, 0), expected);
+        assertEquals(run(new ConverterCli(table()), input, 0), expected);
+    }
+
+    @Test
+    public void rejectsMalformedLinesTest() throws IOException {
+        assertEquals(run(new ConverterCli(), "I\nNNNM\n10000\n\nII\n", 3),
+                "1\nERR Three N contains M\nERR Arabic value out of bounds\nERR Empty String\n2\n");
+    }
+
+    @Test
+    public void tableMatchesConverterTest() throws IOException, ValueOutOfBoundsException {
+        ElbonianTableFile table = table();
+        byte[] numeral = new byte[17];
+        for (int value = -9999; value <= 9999; value++) {
+            int length = table.copy(value, numeral, 0);
+            assertEquals(table.length(value), length);
+            assertEquals(new String(numeral, 0, length, StandardCharsets.US_ASCII),
+                    ElbonianArabicConverter.toElbonian(value));
+        }
+    }
+
+    @Test
+    public void largeInputTest() throws IOException, ValueOutOfBoundsException {
+        StringBuilder in = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int value = -9999; value <= 9999; value++) {
+            in.append(value).append('\n');
+            expected.append(ElbonianArabicConverter.toElbonian(value)).append('\n');
+        }
+        ConverterCli cli = new ConverterCli(table());
+        String out = run(cli, in.toString(), 0);
+        assertEquals(out, expected.toString());
+        // The same instance can be used again. Some numerals, such as LLLI, are rejected by the
+        // constructor, and so by the CLI as well
+        StringBuilder arabic = new StringBuilder();
+        long rejects = 0;
+        for (int value = -9999; value <= 9999; value++) {
+            try {
+                arabic.append(new ElbonianArabicConverter(ElbonianArabicConverter.toElbonian(value)).toArabic());
+            } catch (MalformedNumberException e) {
+                arabic.append("ERR ").append(e.getMessage());
+                rejects++;
+            }
+            arabic.append('\n');
+        }
+        assertEquals(run(cli, out, rejects), arabic.toString());
+    }
+
+    @Test(expected = IOException.class)
+    public void notATableTest() throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, "MMCCII\n".getBytes(StandardCharsets.US_ASCII));
+        ElbonianTableFile.map(file);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void valueOutsideTableTest() throws IOException {
+        table().length(10000);
+    }
+}
@@ -0,0 +1,88 @@
+package converter.tests;
+
+import converter.BatchConverter;
+import converter.ConversionStatus;
+import converter.ConverterCache;
+import converter.ConverterMetrics;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Test cases for the ConverterMetrics class. They only run when the tests are started with
+ * -Dconverter.metrics=true, which the Gradle build does.
+ */
+public class ConverterMetricsTests {
+
+    private static long sum(long[] histogram) {
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        return total;
+    }
+
+    @Before
+    public void setUp() {
+        assumeTrue(ConverterMetrics.ENABLED);
+        ConverterMetrics.get().reset();
+    }
+
+    @Test
+    public void countsCallsTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ConverterMetrics metrics = ConverterMetrics.get();
+        new ElbonianArabicConverter("MMCCII").toArabic();
+        new ElbonianArabicConverter("2202").toElbonian();
+        assertTrue(metrics.getConstructions() >= 2);
+        assertTrue(metrics.getToArabicCalls() >= 1);
+        assertTrue(metrics.getToElbonianCalls() >= 1);
+        assertTrue(sum(metrics.getConstructLatencyHistogram()) >= 2);
+        assertTrue(sum(metrics.getToElbonianLatencyHistogram()) >= 1);
+    }
+
+    @Test
+    public void countsRejectionsTest() throws ValueOutOfBoundsException {
+        ConverterMetrics metrics = ConverterMetrics.get();
+        try {
+            new ElbonianArabicConverter("NNNM");
+        } catch (MalformedNumberException e) {
+            // Counted by the constructor
+        }
+        BatchConverter.convertAll(new CharSequence[]{"NNNM", "I", ""}, new int[3], new byte[3]);
+        String reason = ConversionStatus.message(ConversionStatus.THREE_N_WITH_M);
+        assertTrue(metrics.getRejectionsByReason().get(reason) >= 2);
+        assertTrue(metrics.getRejections() >= 3);
+    }
+
+    @Test
+    public void countsCachedRejectionsTest() throws ValueOutOfBoundsException {
+        ConverterMetrics metrics = ConverterMetrics.get();
+        ConverterCache cache = new ConverterCache(8);
+        for (int i = 0; i < 3; i++) {
+            try {
+                cache.get("NNNM");
+            } catch (MalformedNumberException e) {
+                // Counted by the cache, on the miss and on both hits
+            }
+        }
+        String reason = ConversionStatus.message(ConversionStatus.THREE_N_WITH_M);
+        assertTrue(metrics.getRejectionsByReason().get(reason) >= 3);
+        assertTrue(metrics.getConstructions() >= 1);
+    }
+
+    @Test
+    public void registeredTest() throws Exception {
+        ObjectName name = new ObjectName(ConverterMetrics.OBJECT_NAME);
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        assertEquals(ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Enabled"), true);
+    }
+}
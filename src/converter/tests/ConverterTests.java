@@ -1,11 +1,17 @@
 package converter.tests;
 
+import converter.ConversionStatus;
 import converter.ElbonianArabicConverter;
 import converter.exceptions.MalformedNumberException;
 import converter.exceptions.ValueOutOfBoundsException;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.interfaces.ECKey;
 
 import static org.junit.Assert.assertEquals;
@@ -262,4 +268,182 @@ public class ConverterTests {
         assertEquals(converter.toElbonian(), "MMCCII");
     }
 
+    //Static table tests
+    @Test
+    public void staticToElbonianTest() throws ValueOutOfBoundsException{
+        assertEquals(ElbonianArabicConverter.toElbonian(2202), "MMCCII");
+        assertEquals(ElbonianArabicConverter.toElbonian(-9999), "-NNNDDDLLLVVV");
+        assertEquals(ElbonianArabicConverter.toElbonian(0), "Z");
+    }
+    @Test
+    public void staticToArabicTest() throws MalformedNumberException{
+        assertEquals(ElbonianArabicConverter.toArabic("MMCCII"), 2202);
+        assertEquals(ElbonianArabicConverter.toArabic("-NNMMDDCCLLXXVVII"), -8888);
+        assertEquals(ElbonianArabicConverter.toArabic("Z"), 0);
+    }
+    @Test
+    public void staticRoundTripTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        for(int value = -9999; value <= 9999; value++){
+            assertEquals(ElbonianArabicConverter.toArabic(ElbonianArabicConverter.toElbonian(value)), value);
+        }
+    }
+    @Test
+    public void staticMatchesConstructorTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        for(int value = -9999; value <= 9999; value++){
+            ElbonianArabicConverter converter = new ElbonianArabicConverter(Integer.toString(value));
+            assertEquals(converter.toElbonian(), ElbonianArabicConverter.toElbonian(value));
+        }
+    }
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void staticGreaterThan9999Test() throws ValueOutOfBoundsException{
+        ElbonianArabicConverter.toElbonian(10000);
+    }
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void staticLessThanN9999Test() throws ValueOutOfBoundsException{
+        ElbonianArabicConverter.toElbonian(-10000);
+    }
+    @Test(expected = MalformedNumberException.class)
+    public void staticNotCanonicalTest() throws MalformedNumberException{
+        ElbonianArabicConverter.toArabic("MMM");
+    }
+    @Test(expected = MalformedNumberException.class)
+    public void staticNotInOrderTest() throws MalformedNumberException{
+        ElbonianArabicConverter.toArabic("IM");
+    }
+    @Test(expected = MalformedNumberException.class)
+    public void staticNegativeZTest() throws MalformedNumberException{
+        ElbonianArabicConverter.toArabic("-Z");
+    }
+    @Test(expected = MalformedNumberException.class)
+    public void staticEmptyTest() throws MalformedNumberException{
+        ElbonianArabicConverter.toArabic("-");
+    }
+
+    //Parser edge case tests
+    @Test
+    public void plusSignArabicTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("+2202");
+        assertEquals(converter.toElbonian(), "MMCCII");
+    }
+    @Test
+    public void tabsTrimmedTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("\tMMCCII\n");
+        assertEquals(converter.toArabic(), 2202);
+    }
+    @Test(expected = MalformedNumberException.class)
+    public void tabInMiddleTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("M\tM");
+    }
+    @Test(expected = MalformedNumberException.class)
+    public void loneMinusTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        ElbonianArabicConverter converter = new ElbonianArabicConverter(" - ");
+    }
+    @Test(expected = MalformedNumberException.class)
+    public void threeLWithIFailTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("LLLI");
+    }
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void maxIntArabicTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("2147483647");
+    }
+    @Test(expected = MalformedNumberException.class)
+    public void pastMaxIntArabicTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("2147483648");
+    }
+    @Test
+    public void earliestRuleReportedTest() throws ValueOutOfBoundsException{
+        try{
+            new ElbonianArabicConverter("NNNNM");
+            Assert.fail();
+        }catch (MalformedNumberException e){
+            assertEquals(e.getMessage(), ConversionStatus.message(ConversionStatus.THREE_N_WITH_M));
+        }
+    }
+    @Test
+    public void spaceReportedFirstTest() throws ValueOutOfBoundsException{
+        try{
+            new ElbonianArabicConverter("MMMM 1");
+            Assert.fail();
+        }catch (MalformedNumberException e){
+            assertEquals(e.getMessage(), ConversionStatus.message(ConversionStatus.SPACE));
+        }
+    }
+
+    //Value type tests
+    @Test
+    public void arabicToArabicTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        ElbonianArabicConverter converter = new ElbonianArabicConverter(" -2202 ");
+        assertEquals(converter.toArabic(), -2202);
+    }
+    @Test
+    public void elbonianToElbonianTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        ElbonianArabicConverter converter = new ElbonianArabicConverter(" MMCCII ");
+        assertEquals(converter.toElbonian(), "MMCCII");
+        assertEquals(converter.toElbonian(), "MMCCII");
+    }
+    @Test
+    public void equalAcrossFormsTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        ElbonianArabicConverter arabic = new ElbonianArabicConverter("2202");
+        ElbonianArabicConverter elbonian = new ElbonianArabicConverter("MMCCII");
+        assertEquals(arabic, elbonian);
+        assertEquals(arabic.hashCode(), elbonian.hashCode());
+        assertEquals(arabic.compareTo(elbonian), 0);
+        Assert.assertNotEquals(arabic, new ElbonianArabicConverter("-2202"));
+        Assert.assertNotEquals(arabic, "2202");
+    }
+    @Test
+    public void compareToTest() throws MalformedNumberException, ValueOutOfBoundsException{
+        ElbonianArabicConverter small = new ElbonianArabicConverter("-NNNDDDLLLVVV");
+        ElbonianArabicConverter zero = new ElbonianArabicConverter("Z");
+        ElbonianArabicConverter large = new ElbonianArabicConverter("9999");
+        Assert.assertTrue(small.compareTo(zero) < 0);
+        Assert.assertTrue(large.compareTo(zero) > 0);
+        Assert.assertTrue(zero.compareTo(small) > 0);
+    }
+
+    //Output API tests
+    @Test
+    public void appendElbonianTest() throws ValueOutOfBoundsException{
+        StringBuilder out = new StringBuilder("x=");
+        Assert.assertSame(ElbonianArabicConverter.appendElbonian(2202, out), out);
+        ElbonianArabicConverter.appendElbonian(-1, out.append(','));
+        assertEquals(out.toString(), "x=MMCCII,-I");
+    }
+    @Test
+    public void appendElbonianToWriterTest() throws ValueOutOfBoundsException, IOException{
+        StringWriter out = new StringWriter();
+        ElbonianArabicConverter.appendElbonian(0, (Appendable) out);
+        ElbonianArabicConverter.appendElbonian(-8888, (Appendable) out);
+        assertEquals(out.toString(), "Z-NNMMDDCCLLXXVVII");
+    }
+    @Test
+    public void writeElbonianCharsTest() throws ValueOutOfBoundsException{
+        char[] dst = new char[20];
+        int length = ElbonianArabicConverter.writeElbonian(-8888, dst, 3);
+        assertEquals(length, 17);
+        assertEquals(new String(dst, 3, length), "-NNMMDDCCLLXXVVII");
+    }
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void writeElbonianCharsTooShortTest() throws ValueOutOfBoundsException{
+        ElbonianArabicConverter.writeElbonian(2202, new char[8], 3);
+    }
+    @Test
+    public void writeElbonianBytesTest() throws ValueOutOfBoundsException{
+        ByteBuffer dst = ByteBuffer.allocateDirect(32);
+        assertEquals(ElbonianArabicConverter.writeElbonian(2202, dst), 6);
+        assertEquals(ElbonianArabicConverter.writeElbonian(0, dst), 1);
+        dst.flip();
+        byte[] bytes = new byte[dst.remaining()];
+        dst.get(bytes);
+        assertEquals(new String(bytes, StandardCharsets.US_ASCII), "MMCCIIZ");
+    }
+    @Test(expected = BufferOverflowException.class)
+    public void writeElbonianBytesTooShortTest() throws ValueOutOfBoundsException{
+        ElbonianArabicConverter.writeElbonian(2202, ByteBuffer.allocate(5));
+    }
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void writeElbonianOutOfBoundsTest() throws ValueOutOfBoundsException{
+        ElbonianArabicConverter.writeElbonian(10000, new char[32], 0);
+    }
+
 }
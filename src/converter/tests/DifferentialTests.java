@@ -0,0 +1,27 @@
+package converter.tests;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the DifferentialVerifier on a smaller corpus, without the speed gate, so that every optimized
+ * path is checked against the reference on each build.
+ */
+public class DifferentialTests {
+
+    @Test
+    public void optimizedPathsMatchReferenceTest() throws Exception {
+        DifferentialVerifier verifier = new DifferentialVerifier(false, 0);
+        boolean passed = verifier.run(4, 3, 100000);
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+        verifier.report(new PrintStream(report, true, "US-ASCII"));
+        assertEquals(report.toString("US-ASCII"), verifier.mismatches(), 0);
+        assertTrue(passed);
+        assertTrue(verifier.checked() > 3000000);
+    }
+}
@@ -0,0 +1,1015 @@
+package converter.tests;
+
+import converter.BatchConverter;
+import converter.ConversionProcessor;
+import converter.ConversionResult;
+import converter.ConversionStatus;
+import converter.ElbonianArabicConverter;
+import converter.ElbonianPushParser;
+import converter.ElbonianValue;
+import converter.Flow;
+import converter.NumeralSystem;
+import converter.ParallelConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks every optimized conversion path against {@link ReferenceConverter}, the converter as it was
+ * first written, and measures how much faster each path is.
+ *
+ * Two kinds of input are used. Strings are read by every path that parses, and must give the same
+ * value, or an exception of the same class with the same message, as the reference constructor. The
+ * strings are every Arabic value near the Elbonian range with and without spaces and signs, odd cases
+ * such as "-", "Z", "-Z" and non-ASCII digits, every short string over the Elbonian symbols, digits,
+ * signs and spaces, every ordered numeral with up to four of each symbol, and random near misses.
+ * Arabic values are given to every path that formats, and must give the same numeral, or the same
+ * exception, as the reference. With --full, every int is also written out and parsed, and every int
+ * is formatted. Most ints are out of range, so every path makes an exception for them, and the full
+ * run takes about six hours on one core.
+ *
+ * After the corpus, each path and the reference are timed on a typical workload, and the run fails if
+ * any path gave a different result or is less than --min-speedup times as fast as the reference. The
+ * gate is meant for an otherwise idle machine, so {@link DifferentialTests} runs a smaller corpus
+ * without the timing.
+ */
+public final class DifferentialVerifier {
+    static final double DEFAULT_MIN_SPEEDUP = 1.5;
+
+    private static final int CHUNK = 4096;
+    private static final int MAX_REPORTED = 20;
+    private static final int WARMUP_ROUNDS = 100;
+    private static final int TIMED_ROUNDS = 100;
+    private static final char[] SYMBOLS = {'N', 'M', 'D', 'C', 'L', 'X', 'V', 'I'};
+    private static final char[] ALPHABET = {'N', 'M', 'D', 'C', 'L', 'X', 'V', 'I', 'Z', '-', '+', '1', ' ', '\t'};
+    private static final String[] SPECIAL = {null, "", " ", "-", "+", "--1", "-+1", "Z", "-Z", "ZZ", " Z ", "ZI",
+            "IZ", "\tI", "I\t I", "I\tI", "- ", "-\t", " I", "\u0661\u0662", "-\u0663", "\u0966", "\uff11",
+            "2147483647", "2147483648", "-2147483648", "-2147483649", "99999999999", "0000000000000000000005",
+            "-0", "+0", "NNNM", "DDDC", "LLLX", "LLLI", "VVVI", "LLLVVVI", "NNNDDDLLLVVV", "NNMMDDCCLLXXVVII",
+            "-NNMMDDCCLLXXVVII", "NNNN", "MMM", "IIII", "\u0000", "I\u0000", "\u00a0I", "I\r"};
+
+    // The reference numeral of every value, so that Elbonian input can be compared on both forms
+    private static final String[] REFERENCE_NUMERALS = new String[19999];
+
+    static {
+        for (int value = -9999; value <= 9999; value++) {
+            try {
+                REFERENCE_NUMERALS[value + 9999] = new ReferenceConverter(Integer.toString(value)).toElbonian();
+            } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                throw new IllegalStateException("The reference cannot format " + value, e);
+            }
+        }
+    }
+
+    private final boolean full;
+    private final double minSpeedup;
+    private final List<ParsePath> parsePaths = new ArrayList<ParsePath>();
+    private final List<FormatPath> formatPaths = new ArrayList<FormatPath>();
+    private final ParsePath parseReference = new ReferenceParse();
+    private final FormatPath formatReference = new ReferenceFormat();
+
+    private final String[] strings = new String[CHUNK];
+    private int stringCount;
+    private final int[] values = new int[CHUNK];
+    private int valueCount;
+    private final Outcomes expected = new Outcomes(CHUNK);
+    private final Outcomes actual = new Outcomes(CHUNK);
+    private boolean measured;
+
+    /**
+     * Creates a verifier for every optimized path.
+     *
+     * @param full True to cover every int as well as the standard corpus
+     * @param minSpeedup The speedup over the reference every path needs, or 0 for no gate
+     */
+    public DifferentialVerifier(boolean full, double minSpeedup) {
+        this.full = full;
+        this.minSpeedup = minSpeedup;
+        addPaths();
+    }
+
+    /**
+     * Runs the whole corpus.
+     *
+     * @return True if every path matched the reference
+     */
+    public boolean run() {
+        return run(5, 4, 3000000);
+    }
+
+    /**
+     * Runs a corpus of the given size.
+     *
+     * @param maxLength The length up to which every string over the alphabet is tried
+     * @param maxRun The run length up to which every ordered numeral is tried
+     * @param random The number of random near misses
+     * @return True if every path matched the reference
+     */
+    boolean run(int maxLength, int maxRun, int random) {
+        for (String special : SPECIAL) {
+            parse(special);
+        }
+        for (int value = -20000; value <= 20000; value++) {
+            String arabic = Integer.toString(value);
+            parse(arabic);
+            parse(" " + arabic + "\t");
+            parse("+" + arabic);
+            parse("0" + arabic);
+            format(value);
+        }
+        for (long value = Integer.MIN_VALUE; value <= Integer.MAX_VALUE; value += 999983) {
+            parse(Long.toString(value));
+            format((int) value);
+        }
+        format(Integer.MIN_VALUE);
+        format(Integer.MAX_VALUE);
+        allStrings(maxLength);
+        allNumerals(maxRun);
+        nearMisses(random);
+        if (full) {
+            ints(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        flushStrings();
+        flushValues();
+        return passed();
+    }
+
+    /**
+     * Parses every value in a range written out, and formats every value.
+     */
+    void ints(long from, long to) {
+        for (long value = from; value <= to; value++) {
+            parse(Long.toString(value));
+            format((int) value);
+        }
+    }
+
+    private void allStrings(int maxLength) {
+        for (int length = 0; length <= maxLength; length++) {
+            int[] index = new int[length];
+            char[] chars = new char[length];
+            while (true) {
+                for (int k = 0; k < length; k++) {
+                    chars[k] = ALPHABET[index[k]];
+                }
+                parse(new String(chars));
+                int k = length - 1;
+                while (k >= 0 && ++index[k] == ALPHABET.length) {
+                    index[k] = 0;
+                    k--;
+                }
+                if (k < 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private void allNumerals(int maxRun) {
+        int[] runs = new int[SYMBOLS.length];
+        StringBuilder numeral = new StringBuilder();
+        while (true) {
+            numeral.setLength(0);
+            for (int k = 0; k < SYMBOLS.length; k++) {
+                for (int j = 0; j < runs[k]; j++) {
+                    numeral.append(SYMBOLS[k]);
+                }
+            }
+            parse(numeral.toString());
+            parse("-" + numeral);
+            int k = SYMBOLS.length - 1;
+            while (k >= 0 && ++runs[k] > maxRun) {
+                runs[k] = 0;
+                k--;
+            }
+            if (k < 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Mostly ordered numerals with a few stray characters, which reach the deeper rule checks more
+     * often than uniformly random strings.
+     */
+    private void nearMisses(int count) {
+        Random random = new Random(3733);
+        for (int i = 0; i < count; i++) {
+            parse(nearMiss(random));
+        }
+    }
+
+    private static String nearMiss(Random random) {
+        char[] chars = new char[random.nextInt(18)];
+        for (int k = 0; k < chars.length; k++) {
+            chars[k] = random.nextInt(4) == 0 ? ALPHABET[random.nextInt(ALPHABET.length)]
+                    : SYMBOLS[Math.min(7, k * 8 / chars.length + random.nextInt(2))];
+        }
+        return new String(chars);
+    }
+
+    private void parse(String input) {
+        strings[stringCount++] = input;
+        if (stringCount == CHUNK) {
+            flushStrings();
+        }
+    }
+
+    private void format(int value) {
+        values[valueCount++] = value;
+        if (valueCount == CHUNK) {
+            flushValues();
+        }
+    }
+
+    private void flushStrings() {
+        if (stringCount == 0) {
+            return;
+        }
+        String[] in = stringCount == CHUNK ? strings : Arrays.copyOf(strings, stringCount);
+        parseReference.time(in, expected, false);
+        for (ParsePath path : parsePaths) {
+            path.time(in, actual, false);
+            path.compare(in, expected, actual);
+        }
+        stringCount = 0;
+    }
+
+    private void flushValues() {
+        if (valueCount == 0) {
+            return;
+        }
+        int[] in = valueCount == CHUNK ? values : Arrays.copyOf(values, valueCount);
+        formatReference.time(in, expected, false);
+        for (FormatPath path : formatPaths) {
+            path.time(in, actual, false);
+            path.compare(in, expected, actual);
+        }
+        valueCount = 0;
+    }
+
+    /**
+     * Times every path and the reference on a typical workload: random values from the whole range,
+     * half of them written in each form, with one string in ten a near miss. The paths take turns
+     * within each round, and the first rounds are not timed, so that the timed rounds run compiled
+     * code.
+     */
+    public void measure() {
+        Random random = new Random(7);
+        String[] in = new String[CHUNK];
+        int[] values = new int[CHUNK];
+        for (int i = 0; i < CHUNK; i++) {
+            values[i] = random.nextInt(19999) - 9999;
+            if (i % 10 == 9) {
+                in[i] = nearMiss(random);
+            } else {
+                in[i] = i % 2 == 0 ? Integer.toString(values[i]) : REFERENCE_NUMERALS[values[i] + 9999];
+            }
+        }
+        for (int round = 0; round < WARMUP_ROUNDS + TIMED_ROUNDS; round++) {
+            boolean timed = round >= WARMUP_ROUNDS;
+            parseReference.time(in, expected, timed);
+            for (ParsePath path : parsePaths) {
+                path.time(in, actual, timed);
+            }
+            formatReference.time(values, expected, timed);
+            for (FormatPath path : formatPaths) {
+                path.time(values, actual, timed);
+            }
+        }
+        measured = true;
+    }
+
+    /**
+     * @return True if no path has given a different result, or measured too slow, so far
+     */
+    public boolean passed() {
+        for (Path path : paths()) {
+            if (path.mismatches > 0 || slow(path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The number of results that differed from the reference, over every path
+     */
+    long mismatches() {
+        long mismatches = 0;
+        for (Path path : paths()) {
+            mismatches += path.mismatches;
+        }
+        return mismatches;
+    }
+
+    /**
+     * @return The number of results that were compared, over every path
+     */
+    long checked() {
+        long checked = 0;
+        for (Path path : paths()) {
+            checked += path.checked;
+        }
+        return checked;
+    }
+
+    private List<Path> paths() {
+        List<Path> paths = new ArrayList<Path>(parsePaths);
+        paths.addAll(formatPaths);
+        return paths;
+    }
+
+    private boolean slow(Path path) {
+        return measured && minSpeedup > 0 && speedup(path) < minSpeedup;
+    }
+
+    private double speedup(Path path) {
+        Path reference = path instanceof ParsePath ? parseReference : formatReference;
+        return path.opsPerSecond() / reference.opsPerSecond();
+    }
+
+    /**
+     * Prints the operations per second and speedup of every path, and the first mismatches.
+     *
+     * @param out Where to print the report
+     */
+    public void report(PrintStream out) {
+        out.printf("%-32s %12s %10s %14s %8s%n", "Path", "Checked", "Mismatches", "Ops/s", "Speedup");
+        for (Path path : paths()) {
+            if (path == formatPaths.get(0)) {
+                print(out, formatReference, formatReference.converted, "");
+            } else if (path == parsePaths.get(0)) {
+                print(out, parseReference, parseReference.converted, "");
+            }
+            String speedup = measured ? String.format("%7.1fx", speedup(path)) : "";
+            String verdict = path.mismatches > 0 ? "  DIVERGED" : slow(path) ? "  TOO SLOW" : "";
+            print(out, path, path.checked, speedup + verdict);
+        }
+        for (Path path : paths()) {
+            for (String mismatch : path.reported) {
+                out.println(path.name + ": " + mismatch);
+            }
+        }
+        out.printf("%d results checked, %d mismatches, minimum speedup %.1fx: %s%n", checked(), mismatches(),
+                measured ? minSpeedup : 0, passed() ? "PASSED" : "FAILED");
+    }
+
+    private static void print(PrintStream out, Path path, long checked, String speedup) {
+        out.printf("%-32s %12d %10d %14.0f %s%n", path.name, checked, path.mismatches, path.opsPerSecond(), speedup);
+    }
+
+    /**
+     * The result of converting each input of a chunk. Each one is a value with an optional numeral, an
+     * exception class with its message, or skipped if the path cannot take that input.
+     */
+    static final class Outcomes {
+        private static final Class<?>[] STATUS_ERRORS = new Class<?>[128];
+        private static final String[] STATUS_MESSAGES = new String[128];
+
+        final int[] values;
+        final String[] numerals;
+        final Class<?>[] errors;
+        final String[] messages;
+        final boolean[] skipped;
+
+        Outcomes(int size) {
+            values = new int[size];
+            numerals = new String[size];
+            errors = new Class<?>[size];
+            messages = new String[size];
+            skipped = new boolean[size];
+        }
+
+        void ok(int i, int value, String numeral) {
+            values[i] = value;
+            numerals[i] = numeral;
+            errors[i] = null;
+            skipped[i] = false;
+        }
+
+        void failed(int i, Exception e) {
+            errors[i] = e.getClass();
+            messages[i] = e.getMessage();
+            skipped[i] = false;
+        }
+
+        /**
+         * Records the exception the status stands for. The exception is only made the first time each
+         * status is seen, so that the paths that return statuses are not timed making exceptions.
+         */
+        void failed(int i, byte status) {
+            if (STATUS_ERRORS[status] == null) {
+                try {
+                    ConversionStatus.check(status);
+                    throw new IllegalStateException("Failure with status " + status);
+                } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                    STATUS_MESSAGES[status] = e.getMessage();
+                    STATUS_ERRORS[status] = e.getClass();
+                }
+            }
+            errors[i] = STATUS_ERRORS[status];
+            messages[i] = STATUS_MESSAGES[status];
+            skipped[i] = false;
+        }
+
+        void skip(int i) {
+            skipped[i] = true;
+        }
+
+        boolean same(int i, Outcomes other) {
+            if (errors[i] != other.errors[i]) {
+                return false;
+            }
+            if (errors[i] != null) {
+                return messages[i].equals(other.messages[i]);
+            }
+            return values[i] == other.values[i] && (other.numerals[i] == null || other.numerals[i].equals(numerals[i]));
+        }
+
+        String describe(int i) {
+            if (errors[i] != null) {
+                return errors[i].getSimpleName() + " " + messages[i];
+            }
+            return values[i] + (numerals[i] == null ? "" : " " + numerals[i]);
+        }
+    }
+
+    /**
+     * One way of converting, with its running totals.
+     */
+    abstract static class Path {
+        final String name;
+        final List<String> reported = new ArrayList<String>();
+        long checked;
+        long mismatches;
+        long converted;
+        long nanos;
+
+        Path(String name) {
+            this.name = name;
+        }
+
+        double opsPerSecond() {
+            return nanos == 0 ? 0 : converted * 1e9 / nanos;
+        }
+
+        /**
+         * Turns what the path wrote into results once the timing is over, for paths that write into
+         * their own buffers.
+         */
+        void collect(int count, Outcomes out) {
+        }
+
+        void count(int count, long started) {
+            nanos += System.nanoTime() - started;
+            converted += count;
+        }
+
+        /**
+         * @return False if the result was compared and differed from the reference
+         */
+        boolean matches(int i, Outcomes expected, Outcomes actual) {
+            if (actual.skipped[i]) {
+                return true;
+            }
+            checked++;
+            if (expected.same(i, actual)) {
+                return true;
+            }
+            mismatches++;
+            return false;
+        }
+
+        void report(String input, int i, Outcomes expected, Outcomes actual) {
+            if (reported.size() < MAX_REPORTED) {
+                reported.add("[" + input + "] expected " + expected.describe(i) + " but was " + actual.describe(i));
+            }
+        }
+    }
+
+    /**
+     * A path from strings to values.
+     */
+    abstract static class ParsePath extends Path {
+        ParsePath(String name) {
+            super(name);
+        }
+
+        abstract void run(String[] in, Outcomes out);
+
+        void time(String[] in, Outcomes out, boolean timed) {
+            long started = System.nanoTime();
+            run(in, out);
+            if (timed) {
+                count(in.length, started);
+            }
+            collect(in.length, out);
+        }
+
+        void compare(String[] in, Outcomes expected, Outcomes actual) {
+            for (int i = 0; i < in.length; i++) {
+                if (!matches(i, expected, actual)) {
+                    report(in[i] == null ? null : escape(in[i]), i, expected, actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * A path from values to numerals.
+     */
+    abstract static class FormatPath extends Path {
+        FormatPath(String name) {
+            super(name);
+        }
+
+        abstract void run(int[] in, Outcomes out);
+
+        void time(int[] in, Outcomes out, boolean timed) {
+            long started = System.nanoTime();
+            run(in, out);
+            if (timed) {
+                count(in.length, started);
+            }
+            collect(in.length, out);
+        }
+
+        void compare(int[] in, Outcomes expected, Outcomes actual) {
+            for (int i = 0; i < in.length; i++) {
+                if (!matches(i, expected, actual)) {
+                    report(Integer.toString(in[i]), i, expected, actual);
+                }
+            }
+        }
+    }
+
+    private static String escape(String input) {
+        StringBuilder escaped = new StringBuilder();
+        for (int i = 0; i < input.length(); i++) {
+            char ch = input.charAt(i);
+            if (ch < ' ' || ch > '~') {
+                escaped.append(String.format("\\u%04x", (int) ch));
+            } else {
+                escaped.append(ch);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * The reference constructor, followed by the conversion to the other form. The value of an Arabic
+     * number and the numeral of an Elbonian one are filled in after the timing, since the reference
+     * has no way to return them.
+     */
+    private static final class ReferenceParse extends ParsePath {
+        ReferenceParse() {
+            super("reference constructor");
+        }
+
+        @Override
+        void run(String[] in, Outcomes out) {
+            for (int i = 0; i < in.length; i++) {
+                try {
+                    ReferenceConverter converter = new ReferenceConverter(in[i]);
+                    String trimmed = in[i].trim();
+                    if (Character.isDigit(trimmed.charAt(trimmed.length() - 1))) {
+                        out.ok(i, 0, converter.toElbonian());
+                    } else {
+                        out.ok(i, converter.toArabic(), null);
+                    }
+                } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                    out.failed(i, e);
+                }
+            }
+            for (int i = 0; i < in.length; i++) {
+                if (out.errors[i] == null) {
+                    if (out.numerals[i] != null) {
+                        out.values[i] = Integer.parseInt(in[i].trim());
+                    } else {
+                        out.numerals[i] = REFERENCE_NUMERALS[out.values[i] + 9999];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The reference constructor on the value written out, followed by toElbonian().
+     */
+    private static final class ReferenceFormat extends FormatPath {
+        ReferenceFormat() {
+            super("reference toElbonian");
+        }
+
+        @Override
+        void run(int[] in, Outcomes out) {
+            for (int i = 0; i < in.length; i++) {
+                try {
+                    out.ok(i, in[i], new ReferenceConverter(Integer.toString(in[i])).toElbonian());
+                } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                    out.failed(i, e);
+                }
+            }
+        }
+    }
+
+    private void addPaths() {
+        parsePaths.add(new ParsePath("constructor") {
+            @Override
+            void run(String[] in, Outcomes out) {
+                for (int i = 0; i < in.length; i++) {
+                    try {
+                        ElbonianArabicConverter converter = new ElbonianArabicConverter(in[i]);
+                        out.ok(i, converter.toArabic(), converter.toElbonian());
+                    } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                        out.failed(i, e);
+                    }
+                }
+            }
+        });
+        parsePaths.add(new ParsePath("cache") {
+            @Override
+            void run(String[] in, Outcomes out) {
+                for (int i = 0; i < in.length; i++) {
+                    try {
+                        ElbonianArabicConverter converter = ElbonianArabicConverter.of(in[i]);
+                        out.ok(i, converter.toArabic(), converter.toElbonian());
+                    } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                        out.failed(i, e);
+                    }
+                }
+            }
+        });
+        parsePaths.add(new ParsePath("ElbonianValue.parse") {
+            @Override
+            void run(String[] in, Outcomes out) {
+                for (int i = 0; i < in.length; i++) {
+                    try {
+                        short packed = ElbonianValue.parse(in[i]);
+                        out.ok(i, ElbonianValue.toInt(packed), ElbonianValue.toString(packed));
+                    } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                        out.failed(i, e);
+                    }
+                }
+            }
+        });
+        parsePaths.add(new ParsePath("NumeralSystem.parse") {
+            @Override
+            void run(String[] in, Outcomes out) {
+                for (int i = 0; i < in.length; i++) {
+                    try {
+                        out.ok(i, NumeralSystem.ELBONIAN.parse(in[i]), null);
+                    } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                        out.failed(i, e);
+                    }
+                }
+            }
+        });
+        parsePaths.add(new ParsePath("BatchConverter") {
+            private final int[] results = new int[CHUNK];
+            private final byte[] statuses = new byte[CHUNK];
+
+            @Override
+            void run(String[] in, Outcomes out) {
+                BatchConverter.convertAll(in, 0, in.length, results, statuses);
+                statuses(in.length, results, statuses, out);
+            }
+        });
+        parsePaths.add(new ParsePath("ParallelConverter") {
+            @Override
+            void run(String[] in, Outcomes out) {
+                int[] results = new int[in.length];
+                byte[] statuses = new byte[in.length];
+                ParallelConverter.convertAll(in, results, statuses);
+                statuses(in.length, results, statuses, out);
+            }
+        });
+        parsePaths.add(new ParsePath("ConversionProcessor.parsing") {
+            @Override
+            void run(String[] in, Outcomes out) {
+                List<ConversionResult> results = process(ConversionProcessor.parsing(256), in, out);
+                for (int i = 0, next = 0; i < in.length; i++) {
+                    if (!out.skipped[i]) {
+                        result(i, results.get(next++), out);
+                    }
+                }
+            }
+        });
+        parsePaths.add(new ParsePath("ElbonianPushParser") {
+            private final byte[] bytes = new byte[CHUNK * 64];
+            private final int[] indexes = new int[CHUNK];
+            private int next;
+            private Outcomes outcomes;
+            private final ElbonianPushParser parser = new ElbonianPushParser(new ElbonianPushParser.Listener() {
+                @Override
+                public void onValue(int value, boolean arabic) {
+                    outcomes.ok(indexes[next++], value, null);
+                }
+
+                @Override
+                public void onError(byte status) {
+                    outcomes.failed(indexes[next++], status);
+                }
+            });
+
+            @Override
+            void run(String[] in, Outcomes out) {
+                // Only ASCII lines can be sent as bytes
+                int length = 0;
+                int count = 0;
+                for (int i = 0; i < in.length; i++) {
+                    if (!ascii(in[i]) || length + in[i].length() + 1 > bytes.length) {
+                        out.skip(i);
+                        continue;
+                    }
+                    for (int k = 0; k < in[i].length(); k++) {
+                        bytes[length++] = (byte) in[i].charAt(k);
+                    }
+                    bytes[length++] = '\n';
+                    indexes[count++] = i;
+                }
+                outcomes = out;
+                next = 0;
+                parser.feed(bytes, 0, length);
+            }
+        });
+
+        formatPaths.add(new FormatPath("toElbonian(int)") {
+            @Override
+            void run(int[] in, Outcomes out) {
+                for (int i = 0; i < in.length; i++) {
+                    try {
+                        out.ok(i, in[i], ElbonianArabicConverter.toElbonian(in[i]));
+                    } catch (ValueOutOfBoundsException e) {
+                        out.failed(i, e);
+                    }
+                }
+            }
+        });
+        formatPaths.add(new FormatPath("appendElbonian(StringBuilder)") {
+            private final StringBuilder builder = new StringBuilder(CHUNK * 17);
+            private final int[] ends = new int[CHUNK];
+
+            @Override
+            void run(int[] in, Outcomes out) {
+                builder.setLength(0);
+                for (int i = 0; i < in.length; i++) {
+                    try {
+                        ElbonianArabicConverter.appendElbonian(in[i], builder);
+                        out.ok(i, in[i], null);
+                    } catch (ValueOutOfBoundsException e) {
+                        out.failed(i, e);
+                    }
+                    ends[i] = builder.length();
+                }
+            }
+
+            @Override
+            void collect(int count, Outcomes out) {
+                for (int i = 0; i < count; i++) {
+                    if (out.errors[i] == null) {
+                        out.numerals[i] = builder.substring(i == 0 ? 0 : ends[i - 1], ends[i]);
+                    }
+                }
+            }
+        });
+        formatPaths.add(new FormatPath("writeElbonian(char[])") {
+            private final char[] chars = new char[CHUNK * 17];
+            private final int[] lengths = new int[CHUNK];
+
+            @Override
+            void run(int[] in, Outcomes out) {
+                for (int i = 0; i < in.length; i++) {
+                    try {
+                        lengths[i] = ElbonianArabicConverter.writeElbonian(in[i], chars, i * 17);
+                        out.ok(i, in[i], null);
+                    } catch (ValueOutOfBoundsException e) {
+                        out.failed(i, e);
+                    }
+                }
+            }
+
+            @Override
+            void collect(int count, Outcomes out) {
+                for (int i = 0; i < count; i++) {
+                    if (out.errors[i] == null) {
+                        out.numerals[i] = new String(chars, i * 17, lengths[i]);
+                    }
+                }
+            }
+        });
+        formatPaths.add(new FormatPath("writeElbonian(ByteBuffer)") {
+            private final ByteBuffer buffer = ByteBuffer.allocate(CHUNK * 17);
+            private final int[] ends = new int[CHUNK];
+
+            @Override
+            void run(int[] in, Outcomes out) {
+                buffer.clear();
+                for (int i = 0; i < in.length; i++) {
+                    try {
+                        ElbonianArabicConverter.writeElbonian(in[i], buffer);
+                        out.ok(i, in[i], null);
+                    } catch (ValueOutOfBoundsException e) {
+                        out.failed(i, e);
+                    }
+                    ends[i] = buffer.position();
+                }
+            }
+
+            @Override
+            void collect(int count, Outcomes out) {
+                for (int i = 0; i < count; i++) {
+                    if (out.errors[i] == null) {
+                        int start = i == 0 ? 0 : ends[i - 1];
+                        out.numerals[i] = new String(buffer.array(), start, ends[i] - start, StandardCharsets.US_ASCII);
+                    }
+                }
+            }
+        });
+        formatPaths.add(new FormatPath("ElbonianValue.valueOf") {
+            @Override
+            void run(int[] in, Outcomes out) {
+                for (int i = 0; i < in.length; i++) {
+                    try {
+                        out.ok(i, in[i], ElbonianValue.toString(ElbonianValue.valueOf(in[i])));
+                    } catch (ValueOutOfBoundsException e) {
+                        out.failed(i, e);
+                    }
+                }
+            }
+        });
+        formatPaths.add(new FormatPath("BatchConverter") {
+            private final String[] numerals = new String[CHUNK];
+            private final byte[] statuses = new byte[CHUNK];
+
+            @Override
+            void run(int[] in, Outcomes out) {
+                BatchConverter.convertAll(in, 0, in.length, numerals, statuses);
+                numerals(in, numerals, statuses, out);
+            }
+        });
+        formatPaths.add(new FormatPath("ParallelConverter") {
+            @Override
+            void run(int[] in, Outcomes out) {
+                String[] numerals = new String[in.length];
+                byte[] statuses = new byte[in.length];
+                ParallelConverter.convertAll(in, numerals, statuses);
+                numerals(in, numerals, statuses, out);
+            }
+        });
+        formatPaths.add(new FormatPath("ConversionProcessor.formatting") {
+            @Override
+            void run(int[] in, Outcomes out) {
+                Integer[] boxed = new Integer[in.length];
+                for (int i = 0; i < in.length; i++) {
+                    boxed[i] = in[i];
+                }
+                List<ConversionResult> results = process(ConversionProcessor.formatting(256), boxed, out);
+                for (int i = 0; i < in.length; i++) {
+                    result(i, results.get(i), out);
+                }
+            }
+        });
+    }
+
+    private static boolean ascii(String input) {
+        if (input == null) {
+            return false;
+        }
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) > 127 || input.charAt(i) == '\n') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void statuses(int count, int[] results, byte[] statuses, Outcomes out) {
+        for (int i = 0; i < count; i++) {
+            if (statuses[i] == ConversionStatus.OK) {
+                out.ok(i, results[i], null);
+            } else {
+                out.failed(i, statuses[i]);
+            }
+        }
+    }
+
+    private static void numerals(int[] in, String[] numerals, byte[] statuses, Outcomes out) {
+        for (int i = 0; i < in.length; i++) {
+            if (statuses[i] == ConversionStatus.OK) {
+                out.ok(i, in[i], numerals[i]);
+            } else {
+                out.failed(i, statuses[i]);
+            }
+        }
+    }
+
+    private static void result(int i, ConversionResult result, Outcomes out) {
+        if (result.isOk()) {
+            out.ok(i, result.getValue(), result.getNumeral());
+        } else {
+            out.failed(i, result.getStatus());
+        }
+    }
+
+    /**
+     * Sends items through a processor on the calling thread, as fast as it asks for them, and collects
+     * its results. Null items cannot be sent through a stage, so they are skipped.
+     */
+    private static <T> List<ConversionResult> process(ConversionProcessor<T> processor, T[] items, Outcomes out) {
+        final List<ConversionResult> results = new ArrayList<ConversionResult>(items.length);
+        final long[] demand = new long[1];
+        processor.subscribe(new Flow.Subscriber<ConversionResult>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ConversionResult item) {
+                results.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new IllegalStateException("Stage failed", throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                demand[0] += n;
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] == null) {
+                out.skip(i);
+                continue;
+            }
+            if (demand[0] == 0) {
+                throw new IllegalStateException("Stage stopped asking for items");
+            }
+            demand[0]--;
+            processor.onNext(items[i]);
+        }
+        processor.onComplete();
+        return results;
+    }
+
+    /**
+     * Runs the verifier from the command line. The exit status is 1 if it failed.
+     *
+     * @param args --full to cover every int, --min-speedup followed by the speedup every path needs
+     * (1.5 by default, 0 to turn the gate off) and --report followed by a file to copy the report to
+     * @throws IOException Thrown if the report cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        boolean full = false;
+        double minSpeedup = DEFAULT_MIN_SPEEDUP;
+        String report = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--full")) {
+                full = true;
+            } else if (args[i].equals("--min-speedup") && i + 1 < args.length) {
+                minSpeedup = Double.parseDouble(args[++i]);
+            } else if (args[i].equals("--report") && i + 1 < args.length) {
+                report = args[++i];
+            } else {
+                System.err.println("Usage: DifferentialVerifier [--full] [--min-speedup x] [--report file]");
+                System.exit(2);
+            }
+        }
+        DifferentialVerifier verifier = new DifferentialVerifier(full, minSpeedup);
+        long started = System.nanoTime();
+        boolean passed = verifier.run();
+        verifier.measure();
+        passed = passed && verifier.passed();
+        verifier.report(System.out);
+        System.out.printf("Finished in %.1f s%n", (System.nanoTime() - started) / 1e9);
+        if (report != null) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(Paths.get(report)), true, "US-ASCII")) {
+                verifier.report(out);
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+}
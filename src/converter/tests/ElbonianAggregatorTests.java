@@ -0,0 +1,105 @@
+package converter.tests;
+
+import converter.ElbonianAggregate;
+import converter.ElbonianAggregator;
+import converter.ElbonianColumn;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the ElbonianAggregator class.
+ */
+public class ElbonianAggregatorTests {
+
+    @Test
+    public void smallColumnTest() throws ValueOutOfBoundsException {
+        ElbonianAggregate aggregate = ElbonianAggregator.aggregate(
+                ElbonianColumn.encode(new int[]{2202, 0, -8888, 2202, 9999}));
+        assertEquals(aggregate.getCount(), 5);
+        assertEquals(aggregate.getInvalid(), 0);
+        assertEquals(aggregate.getSum(), 2202 + 2202 - 8888 + 9999);
+        assertEquals(aggregate.getMin(), -8888);
+        assertEquals(aggregate.getMax(), 9999);
+        assertEquals(aggregate.getFrequency(2202), 2);
+        assertEquals(aggregate.getFrequency(0), 1);
+        assertEquals(aggregate.getFrequency(1), 0);
+        assertEquals(aggregate.getAverage(), (2202 + 2202 - 8888 + 9999) / 5.0, 1e-9);
+    }
+
+    @Test
+    public void invalidRecordsTest() {
+        byte[] data = "MMCCIIZ-ZNNNNABC-I".getBytes(StandardCharsets.US_ASCII);
+        int[] offsets = {0, 6, 7, 9, 13, 16, 16, 18};
+        ElbonianAggregate aggregate = ElbonianAggregator.aggregate(data, offsets);
+        assertEquals(aggregate.getCount(), 3);
+        assertEquals(aggregate.getInvalid(), 4);
+        assertEquals(aggregate.getSum(), 2202 + 0 - 1);
+        assertEquals(aggregate.getMin(), -1);
+        assertEquals(aggregate.getMax(), 2202);
+    }
+
+    @Test
+    public void longRecordsTest() {
+        // 2048 stray bytes would add up to Integer.MIN_VALUE and 4096 to zero
+        byte[] data = new byte[2048 + 4096 + 18 + 6];
+        Arrays.fill(data, (byte) '?');
+        System.arraycopy("-NNMMDDCCLLXXVVII".getBytes(StandardCharsets.US_ASCII), 0, data, 6144, 17);
+        System.arraycopy("MMCCII".getBytes(StandardCharsets.US_ASCII), 0, data, 6162, 6);
+        data[6161] = 'I';
+        int[] offsets = {0, 2048, 6144, 6161, 6162, 6168};
+        ElbonianAggregate aggregate = ElbonianAggregator.aggregate(data, offsets);
+        assertEquals(aggregate.getInvalid(), 2);
+        assertEquals(aggregate.getCount(), 3);
+        assertEquals(aggregate.getSum(), -8888 + 1 + 2202);
+        assertEquals(aggregate.getFrequency(0), 0);
+    }
+
+    @Test
+    public void emptyTest() throws ValueOutOfBoundsException {
+        ElbonianAggregate aggregate = ElbonianAggregator.aggregate(ElbonianColumn.encode(new int[0]));
+        assertEquals(aggregate.getCount(), 0);
+        assertEquals(aggregate.getMin(), Integer.MAX_VALUE);
+        assertEquals(aggregate.getMax(), Integer.MIN_VALUE);
+        assertEquals(aggregate.getAverage(), 0, 0);
+    }
+
+    @Test
+    public void parallelMatchesSequentialTest() throws ValueOutOfBoundsException {
+        Random random = new Random(3733);
+        int[] values = new int[200000];
+        long[] histogram = new long[19999];
+        long sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(19999) - 9999;
+            histogram[values[i] + 9999]++;
+            sum += values[i];
+        }
+        ElbonianColumn column = ElbonianColumn.encode(values);
+        ElbonianAggregate sequential = ElbonianAggregator.aggregate(column);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ElbonianAggregate parallel = ElbonianAggregator.aggregateParallel(column, pool);
+            assertEquals(parallel.getCount(), values.length);
+            assertEquals(parallel.getSum(), sum);
+            assertEquals(parallel.getMin(), sequential.getMin());
+            assertEquals(parallel.getMax(), sequential.getMax());
+            assertArrayEquals(parallel.getHistogram(), histogram);
+            assertArrayEquals(sequential.getHistogram(), histogram);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void frequencyOutOfRangeTest() throws ValueOutOfBoundsException {
+        ElbonianAggregator.aggregate(ElbonianColumn.encode(new int[]{1})).getFrequency(10000);
+    }
+}
@@ -0,0 +1,95 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianColumn;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ElbonianColumn class.
+ */
+public class ElbonianColumnTests {
+
+    @Test
+    public void layoutTest() throws ValueOutOfBoundsException {
+        ElbonianColumn column = ElbonianColumn.encode(new int[]{2202, 0, -8888, 1});
+        assertEquals(column.size(), 4);
+        assertEquals(column.get(0), "MMCCII");
+        assertEquals(column.get(1), "Z");
+        assertEquals(column.get(2), "-NNMMDDCCLLXXVVII");
+        assertEquals(column.get(3), "I");
+        assertEquals(column.offset(0), 0);
+        assertEquals(column.offset(1), 6);
+        assertEquals(column.offset(2), 7);
+        assertEquals(column.offset(3), 24);
+        assertEquals(column.offset(4), 25);
+        ByteBuffer data = column.data();
+        assertTrue(data.isDirect());
+        assertTrue(data.isReadOnly());
+        assertEquals(data.remaining(), 25);
+    }
+
+    @Test
+    public void wholeRangeRoundTripTest() throws ValueOutOfBoundsException, MalformedNumberException {
+        int[] values = new int[19999];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i - 9999;
+        }
+        ElbonianColumn column = ElbonianColumn.encode(values);
+        assertArrayEquals(column.decode(), values);
+        for (int i = 0; i < values.length; i += 97) {
+            assertEquals(column.get(i), ElbonianArabicConverter.toElbonian(values[i]));
+        }
+    }
+
+    @Test
+    public void rangeTest() throws ValueOutOfBoundsException, MalformedNumberException {
+        ElbonianColumn column = ElbonianColumn.encode(new int[]{10000, 5, 6, -10000}, 1, 3);
+        assertEquals(column.size(), 2);
+        assertArrayEquals(column.decode(), new int[]{5, 6});
+    }
+
+    @Test
+    public void emptyTest() throws ValueOutOfBoundsException, MalformedNumberException {
+        ElbonianColumn column = ElbonianColumn.encode(new int[0]);
+        assertEquals(column.size(), 0);
+        assertEquals(column.decode().length, 0);
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void outOfBoundsTest() throws ValueOutOfBoundsException {
+        ElbonianColumn.encode(new int[]{1, 10000});
+    }
+
+    @Test
+    public void wrappedColumnTest() throws MalformedNumberException {
+        byte[] bytes = "MMCCIIZ-I".getBytes(StandardCharsets.US_ASCII);
+        ElbonianColumn column = new ElbonianColumn(ByteBuffer.wrap(bytes), new int[]{0, 6, 7, 9});
+        assertArrayEquals(column.decode(), new int[]{2202, 0, -1});
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void nonCanonicalTest() throws MalformedNumberException {
+        byte[] bytes = "IIII".getBytes(StandardCharsets.US_ASCII);
+        new ElbonianColumn(ByteBuffer.wrap(bytes), new int[]{0, 4}).decode();
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void arabicDigitsTest() throws MalformedNumberException {
+        byte[] bytes = "42".getBytes(StandardCharsets.US_ASCII);
+        new ElbonianColumn(ByteBuffer.wrap(bytes), new int[]{0, 2}).valueAt(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void badOffsetsTest() {
+        new ElbonianColumn(ByteBuffer.allocate(4), new int[]{0, 3, 2});
+    }
+}
@@ -0,0 +1,109 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianOrder;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test cases for the ElbonianOrder class.
+ */
+public class ElbonianOrderTests {
+
+    @Test
+    public void compareTest() {
+        assertEquals(ElbonianOrder.compare("MMCCII", "MMCCII"), 0);
+        assertEquals(Integer.signum(ElbonianOrder.compare("MMCCII", "MMCCI")), 1);
+        assertEquals(Integer.signum(ElbonianOrder.compare("MMCCI", "MMCCII")), -1);
+        assertEquals(Integer.signum(ElbonianOrder.compare("M", "DDDCC")), 1);
+        assertEquals(Integer.signum(ElbonianOrder.compare("Z", "I")), -1);
+        assertEquals(Integer.signum(ElbonianOrder.compare("Z", "-I")), 1);
+        assertEquals(Integer.signum(ElbonianOrder.compare("-M", "-DDDCC")), -1);
+        assertEquals(Integer.signum(ElbonianOrder.compare("-I", "I")), -1);
+    }
+
+    @Test
+    public void comparatorMatchesValuesTest() throws ValueOutOfBoundsException {
+        Random random = new Random(3733);
+        for (int trial = 0; trial < 200000; trial++) {
+            int a = random.nextInt(19999) - 9999;
+            int b = random.nextInt(100) < 10 ? a : random.nextInt(19999) - 9999;
+            int compared = ElbonianOrder.COMPARATOR.compare(ElbonianArabicConverter.toElbonian(a),
+                    ElbonianArabicConverter.toElbonian(b));
+            assertEquals(Integer.signum(compared), Integer.compare(a, b));
+        }
+    }
+
+    @Test
+    public void neighboursTest() throws ValueOutOfBoundsException {
+        for (int value = -9999; value < 9999; value++) {
+            String numeral = ElbonianArabicConverter.toElbonian(value);
+            String next = ElbonianArabicConverter.toElbonian(value + 1);
+            assertEquals(Integer.signum(ElbonianOrder.compare(numeral, next)), -1);
+            assertEquals(Integer.signum(ElbonianOrder.compare(next, numeral)), 1);
+        }
+    }
+
+    @Test
+    public void sortValuesTest() throws ValueOutOfBoundsException {
+        Random random = new Random(3733);
+        int[] values = new int[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(19999) - 9999;
+        }
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        ElbonianOrder.sort(values);
+        assertArrayEquals(values, expected);
+    }
+
+    @Test
+    public void sortNumeralsTest() throws ValueOutOfBoundsException, MalformedNumberException {
+        Random random = new Random(3733);
+        String[] numerals = new String[50000];
+        for (int i = 0; i < numerals.length; i++) {
+            numerals[i] = ElbonianArabicConverter.toElbonian(random.nextInt(19999) - 9999);
+        }
+        String[] expected = numerals.clone();
+        Arrays.sort(expected, ElbonianOrder.COMPARATOR);
+        ElbonianOrder.sort(numerals);
+        assertArrayEquals(numerals, expected);
+    }
+
+    @Test
+    public void sortIsStableTest() throws MalformedNumberException {
+        String first = new String("LLLI");
+        String second = new String("LLLI");
+        String[] numerals = {first, "-I", second, "Z"};
+        ElbonianOrder.sort(numerals);
+        assertEquals(numerals[0], "-I");
+        assertEquals(numerals[1], "Z");
+        assertSame(numerals[2], first);
+        assertSame(numerals[3], second);
+    }
+
+    @Test
+    public void badValueLeavesArrayTest() {
+        int[] values = {3, 2, 10000, 1};
+        try {
+            ElbonianOrder.sort(values);
+        } catch (ValueOutOfBoundsException e) {
+            assertArrayEquals(values, new int[]{3, 2, 10000, 1});
+            return;
+        }
+        throw new AssertionError("Expected ValueOutOfBoundsException");
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void badNumeralTest() throws MalformedNumberException {
+        ElbonianOrder.sort(new String[]{"I", "IIII"});
+    }
+}
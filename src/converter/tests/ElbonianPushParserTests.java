@@ -0,0 +1,116 @@
+package converter.tests;
+
+import converter.BatchConverter;
+import converter.ConversionStatus;
+import converter.ElbonianPushParser;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the ElbonianPushParser class.
+ */
+public class ElbonianPushParserTests {
+
+    /**
+     * Records every callback as a string.
+     */
+    private static final class Recorder implements ElbonianPushParser.Listener {
+        final List<String> events = new ArrayList<String>();
+
+        @Override
+        public void onValue(int value, boolean arabic) {
+            events.add((arabic ? "arabic " : "elbonian ") + value);
+        }
+
+        @Override
+        public void onError(byte status) {
+            events.add(ConversionStatus.message(status));
+        }
+    }
+
+    private static final String STREAM = "MMCCII\n 42 \nNNNM\n-\n\n10000\n9 9\nZ\n-NNMMDDCCLLXXVVII";
+
+    @Test
+    public void wholeStreamTest() {
+        Recorder recorder = new Recorder();
+        ElbonianPushParser parser = new ElbonianPushParser(recorder);
+        parser.feed(ByteBuffer.wrap(STREAM.getBytes(StandardCharsets.US_ASCII)));
+        parser.finish();
+        List<String> expected = new ArrayList<String>();
+        expected.add("elbonian 2202");
+        expected.add("arabic 42");
+        expected.add(ConversionStatus.message(ConversionStatus.THREE_N_WITH_M));
+        expected.add(ConversionStatus.message(ConversionStatus.LONE_SIGN));
+        expected.add(ConversionStatus.message(ConversionStatus.EMPTY));
+        expected.add(ConversionStatus.message(ConversionStatus.OUT_OF_BOUNDS));
+        expected.add(ConversionStatus.message(ConversionStatus.SPACE));
+        expected.add("elbonian 0");
+        expected.add("elbonian -8888");
+        assertEquals(recorder.events, expected);
+    }
+
+    @Test
+    public void everySplitTest() {
+        byte[] bytes = STREAM.getBytes(StandardCharsets.US_ASCII);
+        Recorder whole = new Recorder();
+        ElbonianPushParser reference = new ElbonianPushParser(whole);
+        reference.feed(bytes, 0, bytes.length);
+        reference.finish();
+        for (int split = 0; split <= bytes.length; split++) {
+            Recorder recorder = new Recorder();
+            ElbonianPushParser parser = new ElbonianPushParser(recorder);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes, 0, split).flip();
+            parser.feed(direct);
+            assertEquals(direct.remaining(), 0);
+            parser.feed(ByteBuffer.wrap(bytes, split, bytes.length - split));
+            parser.finish();
+            assertEquals(recorder.events, whole.events);
+        }
+    }
+
+    @Test
+    public void oneByteAtATimeMatchesBatchTest() {
+        String[] tokens = {"LLLI", "+7", "  -MMM", "VVV", "XXX", "DDDDC", "9999", "NNNDDDLLLVVV"};
+        int[] values = new int[tokens.length];
+        byte[] status = new byte[tokens.length];
+        BatchConverter.convertAll(tokens, values, status);
+        Recorder recorder = new Recorder();
+        ElbonianPushParser parser = new ElbonianPushParser(recorder, (byte) ',');
+        for (String token : tokens) {
+            for (byte b : (token + ",").getBytes(StandardCharsets.US_ASCII)) {
+                parser.feed(new byte[]{b}, 0, 1);
+            }
+        }
+        parser.finish();
+        assertEquals(recorder.events.size(), tokens.length);
+        for (int i = 0; i < tokens.length; i++) {
+            String event = recorder.events.get(i);
+            if (status[i] == ConversionStatus.OK) {
+                assertEquals(Integer.parseInt(event.substring(event.indexOf(' ') + 1)), values[i]);
+            } else {
+                assertEquals(event, ConversionStatus.message(status[i]));
+            }
+        }
+    }
+
+    @Test
+    public void resetTest() {
+        Recorder recorder = new Recorder();
+        ElbonianPushParser parser = new ElbonianPushParser(recorder);
+        byte[] partial = "NNNNNN".getBytes(StandardCharsets.US_ASCII);
+        parser.feed(partial, 0, partial.length);
+        parser.reset();
+        byte[] rest = "II\n".getBytes(StandardCharsets.US_ASCII);
+        parser.feed(rest, 0, rest.length);
+        parser.finish();
+        assertEquals(recorder.events.size(), 1);
+        assertEquals(recorder.events.get(0), "elbonian 2");
+    }
+}
@@ -0,0 +1,82 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianValue;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ElbonianValue class.
+ */
+public class ElbonianValueTests {
+
+    @Test
+    public void roundTripTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        for (int value = -9999; value <= 9999; value++) {
+            short packed = ElbonianValue.valueOf(value);
+            assertEquals(ElbonianValue.toInt(packed), value);
+            assertEquals(ElbonianValue.toString(packed), ElbonianArabicConverter.toElbonian(value));
+            assertEquals(ElbonianValue.parse(Integer.toString(value)), packed);
+        }
+    }
+
+    @Test
+    public void parseArabicTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertEquals(ElbonianValue.parse(" -2202 "), -2202);
+    }
+
+    @Test
+    public void countTest() throws ValueOutOfBoundsException {
+        short packed = ElbonianValue.valueOf(-8888);
+        for (char symbol : "NMDCLXVI".toCharArray()) {
+            assertEquals(ElbonianValue.count(packed, symbol), 2);
+        }
+        assertEquals(ElbonianValue.count(packed, 'Z'), 0);
+        assertEquals(ElbonianValue.count(ElbonianValue.ZERO, 'Z'), 1);
+        short nines = ElbonianValue.valueOf(9999);
+        assertEquals(ElbonianValue.count(nines, 'N'), 3);
+        assertEquals(ElbonianValue.count(nines, 'M'), 0);
+        assertEquals(ElbonianValue.count(nines, 'V'), 3);
+    }
+
+    @Test
+    public void arithmeticTest() throws ValueOutOfBoundsException {
+        short a = ElbonianValue.valueOf(2202);
+        short b = ElbonianValue.valueOf(-9999);
+        assertEquals(ElbonianValue.add(a, b), -7797);
+        assertEquals(ElbonianValue.subtract(a, a), ElbonianValue.ZERO);
+        assertEquals(ElbonianValue.negate(b), 9999);
+        assertTrue(ElbonianValue.compare(a, b) > 0);
+        assertTrue(ElbonianValue.compare(b, a) < 0);
+        assertEquals(ElbonianValue.compare(a, a), 0);
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void addOverflowTest() throws ValueOutOfBoundsException {
+        ElbonianValue.add(ElbonianValue.MAX_VALUE, ElbonianValue.valueOf(1));
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void subtractOverflowTest() throws ValueOutOfBoundsException {
+        ElbonianValue.subtract(ElbonianValue.MIN_VALUE, ElbonianValue.valueOf(1));
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void outOfBoundsTest() throws ValueOutOfBoundsException {
+        ElbonianValue.valueOf(10000);
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void malformedTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianValue.parse("NNNM");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void badSymbolTest() {
+        ElbonianValue.count(ElbonianValue.ZERO, 'A');
+    }
+}
@@ -0,0 +1,209 @@
+package converter.tests;
+
+import converter.ConversionStatus;
+import converter.ElbonianArabicConverter;
+import converter.NumeralSystem;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the NumeralSystem class.
+ */
+public class NumeralSystemTests {
+
+    // The Elbonian system without the rule that three L rule out I
+    private static final NumeralSystem NORTHERN = NumeralSystem.builder()
+            .symbol('N', 3000, 3)
+            .symbol('M', 1000, 2)
+            .symbol('D', 300, 3)
+            .symbol('C', 100, 2)
+            .symbol('L', 30, 3)
+            .symbol('X', 10, 2)
+            .symbol('V', 3, 3)
+            .symbol('I', 1, 2)
+            .exclusion('N', 3, 'M', ConversionStatus.THREE_N_WITH_M)
+            .exclusion('D', 3, 'C', ConversionStatus.THREE_D_WITH_C)
+            .exclusion('L', 3, 'X', ConversionStatus.THREE_L_WITH_X)
+            .exclusion('V', 3, 'I', ConversionStatus.THREE_V_WITH_I)
+            .zero('Z')
+            .build();
+
+    // A plain system of hundreds, tens and ones
+    private static final NumeralSystem TALLY = NumeralSystem.builder()
+            .symbol('H', 100, 9)
+            .symbol('T', 10, 9)
+            .symbol('U', 1, 9)
+            .zero('O')
+            .build();
+
+    private static String outcome(NumeralSystem system, String number) {
+        try {
+            return Integer.toString(system.parse(number));
+        } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+            return e.getClass().getSimpleName() + " " + e.getMessage();
+        }
+    }
+
+    private static String outcome(String number) {
+        try {
+            return Integer.toString(new ElbonianArabicConverter(number).toArabic());
+        } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+            return e.getClass().getSimpleName() + " " + e.getMessage();
+        }
+    }
+
+    @Test
+    public void elbonianLimitsTest() {
+        assertEquals(NumeralSystem.ELBONIAN.getMaxValue(), 9999);
+        Assert.assertTrue(NumeralSystem.ELBONIAN.getStateCount() < 2048);
+    }
+
+    @Test
+    public void elbonianMatchesConverterTest() {
+        String[] inputs = {"MMCCII", " -NNMMDDCCLLXXVVII ", "LLLI", "NNNM", "NNNNM", "MMM", "VVVI", "IM", "Z", "-Z",
+                "2202", "10000", "-", "", "9 9", "ZZ", "DDDDCCC", "LLLXVVVI"};
+        for (String input : inputs) {
+            assertEquals(outcome(NumeralSystem.ELBONIAN, input), outcome(input));
+        }
+    }
+
+    // A system where fives and twos cannot write every value
+    private static final NumeralSystem SPARSE = NumeralSystem.builder()
+            .symbol('F', 5, 3)
+            .symbol('T', 2, 1)
+            .zero('O')
+            .build();
+
+    // A system with a gap between the tens and the ones
+    private static final NumeralSystem GAPPED = NumeralSystem.builder()
+            .symbol('X', 10, 1)
+            .symbol('I', 1, 2)
+            .zero('O')
+            .build();
+
+    /**
+     * Checks that every value the system can write reads back as itself, and returns how many of the
+     * values from zero up can be written.
+     */
+    private static int roundTrip(NumeralSystem system) throws MalformedNumberException {
+        int written = 0;
+        for (int value = -system.getMaxValue(); value <= system.getMaxValue(); value++) {
+            String numeral;
+            try {
+                numeral = system.format(value);
+            } catch (ValueOutOfBoundsException e) {
+                assertEquals(e.getMessage(), "Value cannot be written in this numeral system");
+                continue;
+            }
+            try {
+                assertEquals(system.parse(numeral), value);
+            } catch (ValueOutOfBoundsException e) {
+                throw new AssertionError(numeral, e);
+            }
+            if (value >= 0) {
+                written++;
+            }
+        }
+        return written;
+    }
+
+    @Test
+    public void elbonianFormatTest() throws ValueOutOfBoundsException {
+        // Where the converter reads its own numeral back, the system writes the same one. The rest,
+        // such as LLLI, are checked by roundTripTest
+        int written = 0;
+        for (int value = -9999; value <= 9999; value++) {
+            String numeral = ElbonianArabicConverter.toElbonian(value);
+            if (outcome(numeral).equals(Integer.toString(value))) {
+                assertEquals(NumeralSystem.ELBONIAN.format(value), numeral);
+                written++;
+            }
+        }
+        Assert.assertTrue(written > 0);
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void elbonianUnwritableTest() throws ValueOutOfBoundsException {
+        NumeralSystem.ELBONIAN.format(91);
+    }
+
+    @Test
+    public void roundTripTest() throws MalformedNumberException {
+        roundTrip(NumeralSystem.ELBONIAN);
+        assertEquals(roundTrip(NORTHERN), 10000);
+        assertEquals(roundTrip(TALLY), 1000);
+        // 0, 2, 5, 7, 10, 12, 15 and 17
+        assertEquals(roundTrip(SPARSE), 8);
+        // 0, 1, 2, 10, 11 and 12
+        assertEquals(roundTrip(GAPPED), 6);
+    }
+
+    @Test
+    public void sparseFormatTest() throws ValueOutOfBoundsException {
+        assertEquals(SPARSE.getMaxValue(), 17);
+        assertEquals(SPARSE.format(17), "FFFT");
+        assertEquals(SPARSE.format(-7), "-FT");
+        assertEquals(GAPPED.format(12), "XII");
+        for (int value : new int[] {1, 3, 4}) {
+            try {
+                SPARSE.format(value);
+                Assert.fail(Integer.toString(value));
+            } catch (ValueOutOfBoundsException e) {
+                assertEquals(e.getMessage(), "Value cannot be written in this numeral system");
+            }
+        }
+    }
+
+    @Test
+    public void variantWithoutQuirkTest() {
+        assertEquals(outcome(NORTHERN, "LLLI"), "91");
+        assertEquals(outcome(NORTHERN, "LLLVVVII"), outcome("LLLVVVII"));
+        assertEquals(outcome(NORTHERN, "NNNM"), outcome("NNNM"));
+        assertEquals(NORTHERN.getMaxValue(), 9999);
+    }
+
+    @Test
+    public void tallySystemTest() throws ValueOutOfBoundsException {
+        assertEquals(TALLY.getMaxValue(), 999);
+        assertEquals(outcome(TALLY, "HHTUUU"), "213");
+        assertEquals(outcome(TALLY, " -HHHHHHHHHTTTTTTTTTUUUUUUUUU "), "-999");
+        assertEquals(outcome(TALLY, "O"), "0");
+        assertEquals(outcome(TALLY, "1000"), "ValueOutOfBoundsException "
+                + ConversionStatus.message(ConversionStatus.OUT_OF_BOUNDS));
+        assertEquals(outcome(TALLY, "UUUUUUUUUU"), "MalformedNumberException "
+                + ConversionStatus.message(ConversionStatus.RUN_LENGTH));
+        assertEquals(outcome(TALLY, "TH"), "MalformedNumberException invalid");
+        assertEquals(outcome(TALLY, "MMCCII"), "MalformedNumberException invalid");
+        assertEquals(TALLY.format(-213), "-HHTUUU");
+        assertEquals(TALLY.format(0), "O");
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void formatOutOfBoundsTest() throws ValueOutOfBoundsException {
+        TALLY.format(1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateSymbolTest() {
+        NumeralSystem.builder().symbol('A', 10, 2).symbol('A', 1, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void digitSymbolTest() {
+        NumeralSystem.builder().symbol('1', 10, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownRuleSymbolTest() {
+        NumeralSystem.builder().symbol('A', 10, 3).exclusion('A', 3, 'B', ConversionStatus.RUN_LENGTH);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void missingZeroTest() {
+        NumeralSystem.builder().symbol('A', 10, 3).build();
+    }
+}
@@ -0,0 +1,69 @@
+package converter.tests;
+
+import converter.BatchConverter;
+import converter.ParallelConverter;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the ParallelConverter class.
+ */
+public class ParallelConverterTests {
+    private static final int SIZE = 200000;
+
+    @Test
+    public void readMatchesSequentialTest() {
+        Random random = new Random(3733);
+        CharSequence[] in = new CharSequence[SIZE];
+        String[] samples = {"MMCCII", "NNNM", " 42 ", "-", "LLLI", "-NNNDDDLLLVVV", "10000", "Z"};
+        for (int i = 0; i < SIZE; i++) {
+            in[i] = random.nextBoolean() ? samples[random.nextInt(samples.length)]
+                    : Integer.toString(random.nextInt(24001) - 12000);
+        }
+        int[] values = new int[SIZE];
+        byte[] status = new byte[SIZE];
+        int[] parallelValues = new int[SIZE];
+        byte[] parallelStatus = new byte[SIZE];
+        int converted = BatchConverter.convertAll(in, values, status);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(ParallelConverter.convertAll(in, parallelValues, parallelStatus, pool), converted);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(parallelValues, values);
+        assertArrayEquals(parallelStatus, status);
+    }
+
+    @Test
+    public void writeMatchesSequentialTest() {
+        Random random = new Random(3733);
+        int[] in = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            in[i] = random.nextInt(24001) - 12000;
+        }
+        String[] numerals = new String[SIZE];
+        byte[] status = new byte[SIZE];
+        String[] parallelNumerals = new String[SIZE];
+        byte[] parallelStatus = new byte[SIZE];
+        int converted = BatchConverter.convertAll(in, numerals, status);
+        assertEquals(ParallelConverter.convertAll(in, parallelNumerals, parallelStatus), converted);
+        assertArrayEquals(parallelNumerals, numerals);
+        assertArrayEquals(parallelStatus, status);
+    }
+
+    @Test
+    public void emptyInputTest() {
+        assertEquals(ParallelConverter.convertAll(new int[0], new String[0], new byte[0]), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shortOutputTest() {
+        ParallelConverter.convertAll(new CharSequence[]{"I", "I"}, new int[2], new byte[1]);
+    }
+}
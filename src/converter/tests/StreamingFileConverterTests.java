@@ -0,0 +1,85 @@
+package converter.tests;
+
+import converter.StreamingFileConverter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the StreamingFileConverter class.
+ */
+public class StreamingFileConverterTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path write(String content) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+
+    private String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    public void convertsBothDirectionsTest() throws IOException {
+        Path input = write("2202\nMMCCII\n -9999 \r\nZ\n0\n-I");
+        Path output = folder.newFile().toPath();
+        Path rejects = folder.newFile().toPath();
+        StreamingFileConverter.Report report = new StreamingFileConverter().convert(input, output, rejects);
+        assertEquals(read(output), "MMCCII\n2202\n-NNNDDDLLLVVV\n0\nZ\n-1\n");
+        assertEquals(read(rejects), "");
+        assertEquals(report.getLines(), 6);
+        assertEquals(report.getRejected(), 0);
+    }
+
+    @Test
+    public void rejectsMalformedLinesTest() throws IOException {
+        Path input = write("I\nNNNM\n10000\n\n9 9\nII\n");
+        Path output = folder.newFile().toPath();
+        Path rejects = folder.newFile().toPath();
+        StreamingFileConverter.Report report = new StreamingFileConverter().convert(input, output, rejects);
+        assertEquals(read(output), "1\n2\n");
+        assertEquals(read(rejects), "NNNM\n10000\n\n9 9\n");
+        assertEquals(report.getLines(), 6);
+        assertEquals(report.getConverted(), 2);
+        assertEquals(report.getRejected(), 4);
+    }
+
+    @Test
+    public void smallWindowTest() throws IOException {
+        StringBuilder in = new StringBuilder();
+        for (int i = -50; i <= 50; i++) {
+            in.append(i).append('\n');
+        }
+        in.append("NNNDDDLLLVVV\n");
+        Path input = write(in.toString());
+        Path output = folder.newFile().toPath();
+        new StreamingFileConverter(1 << 20, 1 << 10).convert(input, output, null);
+        String expected = read(output);
+
+        Path small = folder.newFile().toPath();
+        StreamingFileConverter.Report report = new StreamingFileConverter(5, 32).convert(input, small, null);
+        assertEquals(read(small), expected);
+        assertEquals(report.getLines(), 102);
+        assertEquals(report.getRejected(), 0);
+    }
+
+    @Test
+    public void emptyFileTest() throws IOException {
+        Path input = write("");
+        Path output = folder.newFile().toPath();
+        StreamingFileConverter.Report report = new StreamingFileConverter().convert(input, output, null);
+        assertEquals(read(output), "");
+        assertEquals(report.getLines(), 0);
+    }
+}